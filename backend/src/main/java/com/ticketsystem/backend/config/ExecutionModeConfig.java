@@ -0,0 +1,53 @@
+package com.ticketsystem.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Reports how requests are executed and checks the virtual thread setup against the JDBC pool
+ * Virtual threads are switched on with spring.threads.virtual.enabled and need a Java 21+ runtime;
+ * on older runtimes the property is ignored and Tomcat keeps its platform thread pool
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionModeConfig {
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportExecutionMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (requested) {
+                log.warn("Virtual threads requested but the runtime is Java {}; serving requests on platform threads",
+                        Runtime.version().feature());
+            } else {
+                log.info("Serving requests on platform threads (max {})",
+                        environment.getProperty("server.tomcat.threads.max", "200"));
+            }
+            return;
+        }
+
+        // JDBC drivers block inside synchronized sections, which pins the carrier thread;
+        // at most one virtual thread per pooled connection can be in there at a time
+        int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+        log.info("Serving requests on virtual threads ({} carriers, {} JDBC connections)", carriers, poolSize);
+        if (poolSize >= carriers) {
+            log.warn("JDBC pool size {} is not below the {} carrier threads; requests blocked in the driver can pin "
+                            + "every carrier. Lower spring.datasource.hikari.maximum-pool-size or raise "
+                            + "-Djdk.virtualThreadScheduler.parallelism", poolSize, carriers);
+        }
+    }
+}
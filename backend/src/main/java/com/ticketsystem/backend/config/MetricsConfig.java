@@ -0,0 +1,25 @@
+package com.ticketsystem.backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics beyond the actuator defaults (HTTP, JVM, GC, Hikari and Hibernate)
+ * Service methods annotated with @Timed record into {@link #TICKET_OPERATIONS}, tagged by operation
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Timer of ticket service calls; the operation tag names the call and the exception tag its outcome
+     */
+    public static final String TICKET_OPERATIONS = "ticketsystem.ticket.operations";
+
+    //enables @Timed on Spring beans
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
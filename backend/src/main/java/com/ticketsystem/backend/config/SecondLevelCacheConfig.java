@@ -0,0 +1,36 @@
+package com.ticketsystem.backend.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * Cache manager behind the Hibernate second-level cache
+ * Created here rather than by Hibernate, which cannot hand Caffeine a classpath URI for the region file
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Region definitions: size and expiry for every cached entity and collection
+     */
+    static final String REGIONS = "classpath:hibernate-jcache.conf";
+
+    // Caffeine shares one manager per URI across the JVM, so it is not closed with the context
+    @Bean(destroyMethod = "")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(REGIONS), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ticketsystem.backend.config;
 
 import com.ticketsystem.backend.util.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,10 +27,13 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses finish in an async dispatch; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Allow public access to Swagger UI and API docs
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/index.html").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()  // allowing authentication
                         .requestMatchers("/error").permitAll()  // Ensure error page is public
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()  // Probes and metric scrapes
                         // Securing the ticket and user-related API routes
                         .requestMatchers("/api/tickets/**", "/api/users/**").authenticated()
                         .anyRequest().authenticated())  // All other routes need authentication
@@ -1,16 +1,41 @@
 package com.ticketsystem.backend.controllers;
 
-import com.ticketsystem.backend.dtos.AuditLogDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeResultDTO;
+import com.ticketsystem.backend.dtos.SearchIndexStatsDTO;
+import com.ticketsystem.backend.dtos.TicketChangesDTO;
 import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketImportResultDTO;
+import com.ticketsystem.backend.dtos.TicketPageDTO;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.dtos.TicketSearchPageDTO;
+import com.ticketsystem.backend.dtos.TicketStatsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusCountsDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryPageDTO;
+import com.ticketsystem.backend.enums.ExportFormat;
+import com.ticketsystem.backend.enums.ImportFormat;
 import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.services.TicketEventBroadcaster;
+import com.ticketsystem.backend.services.TicketExportService;
+import com.ticketsystem.backend.services.TicketImportService;
+import com.ticketsystem.backend.services.TicketSearchService;
 import com.ticketsystem.backend.services.TicketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -27,6 +52,10 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketEventBroadcaster ticketEventBroadcaster;
+    private final TicketImportService ticketImportService;
+    private final TicketExportService ticketExportService;
+    private final TicketSearchService ticketSearchService;
 
     /**
      * Creates a new ticket
@@ -44,6 +73,35 @@ public class TicketController {
                 .body(createdTicket);
     }
 
+    /**
+     * Imports tickets from a JSON array of tickets (IT Support only)
+     * The body is read as a stream, so files of any size can be imported
+     * @param body The request body
+     * @param userId ID of the importing user
+     * @return Counts of imported and rejected rows with the reasons for rejection
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import tickets from a JSON array")
+    public ResponseEntity<TicketImportResultDTO> importJsonTickets(
+            InputStream body,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketImportService.importTickets(body, ImportFormat.JSON, userId));
+    }
+
+    /**
+     * Imports tickets from a CSV file with a header row (IT Support only)
+     * @param body The request body
+     * @param userId ID of the importing user
+     * @return Counts of imported and rejected rows with the reasons for rejection
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import tickets from a CSV file")
+    public ResponseEntity<TicketImportResultDTO> importCsvTickets(
+            InputStream body,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketImportService.importTickets(body, ImportFormat.CSV, userId));
+    }
+
     /**
      * Updates the status of an existing ticket
      * @param ticketId ID of the ticket to update
@@ -60,6 +118,20 @@ public class TicketController {
         return ResponseEntity.ok(ticketService.updateStatus(ticketId, newStatus, userId));
     }
 
+    /**
+     * Moves several tickets to the same status at once (IT Support only)
+     * @param request IDs of the tickets and the new status
+     * @param userId ID of the user making the update
+     * @return Outcome per ticket; fetch the tickets or listen to the event stream for their full data
+     */
+    @PutMapping("/status")
+    @Operation(summary = "Update the status of several tickets")
+    public ResponseEntity<BulkStatusChangeResultDTO> updateStatuses(
+            @RequestBody BulkStatusChangeRequest request,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.updateStatuses(request, userId));
+    }
+
     /**
      * Adds a comment to an existing ticket
      * @param ticketId ID of the ticket to comment on
@@ -92,16 +164,127 @@ public class TicketController {
 
     /**
      * Retrieves all tickets in the system (requires IT Support role)
+     * Superseded by the paginated /page endpoint for large ticket sets
      * @param userId ID of the user making the request
      * @return List of all tickets in the system
      */
     @GetMapping
-    @Operation(summary = "Get all tickets (IT Support only)")
+    @Operation(summary = "Get all tickets (IT Support only)", deprecated = true)
     public ResponseEntity<List<TicketDTO>> getAllTickets(
             @RequestHeader("User-Id") Long userId) {
         return ResponseEntity.ok(ticketService.getAllTickets(userId));
     }
 
+    /**
+     * Retrieves one page of tickets, most recently updated first
+     * Employees only ever see their own tickets
+     * @param pageRequest Optional filters, the cursor from the previous page and the page size
+     * @param userId ID of the user making the request
+     * @return Page of tickets with the cursor for the next page
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tickets with filters")
+    public ResponseEntity<TicketPageDTO> getTicketPage(
+            TicketPageRequest pageRequest,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.getTicketPage(pageRequest, userId));
+    }
+
+    /**
+     * Retrieves one page of ticket summaries for list views, most recently updated first
+     * Summaries carry no description or comments; fetch a single ticket for those
+     * @param pageRequest Optional filters, the cursor from the previous page and the page size
+     * @param userId ID of the user making the request
+     * @return Page of ticket summaries with the cursor for the next page
+     */
+    @GetMapping("/summaries")
+    @Operation(summary = "Get a page of ticket summaries with filters")
+    public ResponseEntity<TicketSummaryPageDTO> getTicketSummaryPage(
+            TicketPageRequest pageRequest,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.getTicketSummaryPage(pageRequest, userId));
+    }
+
+    /**
+     * Searches tickets by the words of their title, description and comments, best match first
+     * Employees only find their own tickets
+     * @param q Free text; tickets matching any of its words are returned
+     * @param page Zero-based page number
+     * @param size Hits per page
+     * @param userId ID of the user making the request
+     * @return Page of ranked ticket summaries with the total number of matches
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over tickets and their comments")
+    public ResponseEntity<TicketSearchPageDTO> searchTickets(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketSearchService.search(q, page, size, userId));
+    }
+
+    /**
+     * Rebuilds the search index from the database (IT Support only)
+     * Only needed after tickets were changed outside the application
+     * @param userId ID of the user making the request
+     * @return Size of the rebuilt index
+     */
+    @PostMapping("/search/rebuild")
+    @Operation(summary = "Rebuild the ticket search index (IT Support only)")
+    public ResponseEntity<SearchIndexStatsDTO> rebuildSearchIndex(
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketSearchService.rebuildIndex(userId));
+    }
+
+    /**
+     * Exports all matching tickets, oldest first; employees only receive their own tickets
+     * The file is written while it is read from the database, so exports of any size run in constant memory
+     * @param filter Optional filters of the ticket listing
+     * @param format NDJSON (one ticket per line) or CSV
+     * @param userId ID of the user making the request
+     * @return The export as a file download
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export tickets as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            TicketPageRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader("User-Id") Long userId) {
+        return download("tickets", format, ticketExportService.exportTickets(filter, format, userId));
+    }
+
+    /**
+     * Retrieves the tickets modified after a cursor, for incremental refreshes
+     * Call again with nextCursor right away while hasMore is true, later for the next refresh;
+     * employees only receive their own tickets
+     * @param cursor nextCursor from the previous call, omit to start from the oldest change
+     * @param size Page size, at most 200
+     * @param userId ID of the user making the request
+     * @return Changed tickets, the next cursor and whether more changes are waiting
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get tickets changed after a cursor")
+    public ResponseEntity<TicketChangesDTO> getTicketChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.getTicketChanges(cursor, size, userId));
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of ticket changes
+     * Events are named CREATED, STATUS_CHANGED or COMMENT_ADDED and carry the ticket as JSON;
+     * employees only receive events for their own tickets
+     * @param userId ID of the user making the request
+     * @return Event stream that stays open until it times out or the client disconnects
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream ticket changes as Server-Sent Events")
+    public SseEmitter streamTicketEvents(@RequestHeader("User-Id") Long userId) {
+        return ticketEventBroadcaster.subscribe(userId);
+    }
+
     /**
      * Retrieves tickets filtered by status
      * @param status The status to filter by
@@ -131,14 +314,85 @@ public class TicketController {
     }
 
     /**
-     * Retrieves audit logs for tickets (requires IT Support role)
+     * Retrieves ticket counts for the dashboard (requires IT Support role)
+     * @param userId ID of the user making the request
+     * @return Counts by status, priority and category, and open tickets by age
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get dashboard statistics (IT Support only)")
+    public ResponseEntity<TicketStatsDTO> getTicketStats(
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.getTicketStats(userId));
+    }
+
+    /**
+     * Retrieves the number of tickets per status (requires IT Support role)
+     * Read from in-memory counters, so it is cheap enough to poll
      * @param userId ID of the user making the request
-     * @return List of audit log entries
+     * @return Tickets per status and open tickets
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "Get ticket counts per status (IT Support only)")
+    public ResponseEntity<TicketStatusCountsDTO> getStatusCounts(
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(ticketService.getStatusCounts(userId));
+    }
+
+    /**
+     * Retrieves one page of audit logs, newest first (requires IT Support role)
+     * @param pageRequest Optional filters, the cursor from the previous page and the page size
+     * @param userId ID of the user making the request
+     * @return Page of audit log entries with the cursor for the next page
      */
     @GetMapping("/audit-logs")
     @Operation(summary = "Get audit logs (IT Support only)")
-    public ResponseEntity<List<AuditLogDTO>> getAuditLogs(
+    public ResponseEntity<AuditLogPageDTO> getAuditLogs(
+            AuditLogPageRequest pageRequest,
             @RequestHeader("User-Id") Long userId) {
-        return ResponseEntity.ok(ticketService.getAuditLogs(userId));
+        return ResponseEntity.ok(ticketService.getAuditLogs(pageRequest, userId));
+    }
+
+    /**
+     * Exports all matching audit logs, oldest first (requires IT Support role)
+     * @param filter Optional filters of the audit log listing
+     * @param format NDJSON (one entry per line) or CSV
+     * @param userId ID of the user making the request
+     * @return The export as a file download
+     */
+    @GetMapping("/audit-logs/export")
+    @Operation(summary = "Export audit logs as NDJSON or CSV (IT Support only)")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            AuditLogPageRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader("User-Id") Long userId) {
+        return download("audit-logs", format, ticketExportService.exportAuditLogs(filter, format, userId));
+    }
+
+    /**
+     * Exports journaled audit entries in a time range, oldest first (requires IT Support role)
+     * Available when ticketsystem.audit.store includes the journal
+     * @param filter Optional filters of the audit log listing; from and to select the range read
+     * @param format NDJSON (one entry per line) or CSV
+     * @param userId ID of the user making the request
+     * @return The export as a file download
+     */
+    @GetMapping("/audit-logs/journal")
+    @Operation(summary = "Export journaled audit entries as NDJSON or CSV (IT Support only)")
+    public ResponseEntity<StreamingResponseBody> exportAuditJournal(
+            AuditLogPageRequest filter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader("User-Id") Long userId) {
+        return download("audit-journal", format, ticketExportService.exportAuditJournal(filter, format, userId));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String name, ExportFormat format,
+                                                                  StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
-}
\ No newline at end of file
+}
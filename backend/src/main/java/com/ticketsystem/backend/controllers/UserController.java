@@ -1,5 +1,6 @@
 package com.ticketsystem.backend.controllers;
 
+import com.ticketsystem.backend.dtos.CacheStatsDTO;
 import com.ticketsystem.backend.dtos.UserDTO;
 import com.ticketsystem.backend.mappers.UserMapper;
 import com.ticketsystem.backend.services.UserService;
@@ -27,12 +28,17 @@ public class UserController {
     private final UserMapper userMapper;
 
     /**
-     * Retrieves all users in the system
-     * @return List of all users
+     * Retrieves all users in the system, or only the given users when IDs are passed
+     * @param ids Optional IDs to resolve in one request, unknown IDs are skipped
+     * @return List of users
      */
     @GetMapping
-    @Operation(summary = "Get all users")
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
+    @Operation(summary = "Get all users, or a batch of users by ID")
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(userMapper.cachedToDTOList(userService.findCachedByIds(ids)));
+        }
         return ResponseEntity.ok(userMapper.toDTOList(userService.getAllUsers()));
     }
 
@@ -44,7 +50,19 @@ public class UserController {
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
     public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userMapper.toDTO(userService.findById(id)));
+        return ResponseEntity.ok(userMapper.toDTO(userService.findCachedById(id)));
+    }
+
+    /**
+     * Reports hit and miss counters of the user lookup cache (requires IT Support role)
+     * @param userId ID of the user making the request
+     * @return Cache size and counters since startup
+     */
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get user lookup cache statistics (IT Support only)")
+    public ResponseEntity<CacheStatsDTO> getCacheStats(
+            @RequestHeader("User-Id") Long userId) {
+        return ResponseEntity.ok(userService.getCacheStats(userId));
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves several tickets to the same status at once
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+    private List<Long> ticketIds = new ArrayList<>();
+    private Status newStatus;
+}
@@ -0,0 +1,26 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk status change, one entry per requested ticket in request order
+ * lastUpdated is the timestamp written to every updated ticket
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeResultDTO {
+    private Status newStatus;
+    private LocalDateTime lastUpdated;
+    private int updatedCount;
+    private List<TicketStatusChangeDTO> results = new ArrayList<>();
+}
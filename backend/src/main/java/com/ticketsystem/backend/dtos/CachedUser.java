@@ -0,0 +1,14 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Role;
+
+/**
+ * Id, username and role of a user as kept by the user lookup cache
+ * Carries what authorization checks need, never the entity or its password hash
+ */
+public record CachedUser(Long id, String username, Role role) {
+
+    public boolean isItSupport() {
+        return role == Role.ROLE_IT_SUPPORT;
+    }
+}
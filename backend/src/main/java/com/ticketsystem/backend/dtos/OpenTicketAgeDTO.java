@@ -0,0 +1,21 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Open tickets by time since creation
+ * Field order matches the constructor expression in TicketRepository
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenTicketAgeDTO {
+    private long underOneDay;
+    private long oneToSevenDays;
+    private long sevenToThirtyDays;
+    private long overThirtyDays;
+}
@@ -0,0 +1,17 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatsDTO {
+    private int ticketCount;
+    private int termCount;
+    private long postingCount;
+    private long rebuildMillis;
+}
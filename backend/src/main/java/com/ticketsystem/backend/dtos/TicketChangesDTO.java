@@ -0,0 +1,19 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketChangesDTO {
+    private List<TicketDTO> tickets = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of tickets sharing a status, priority and category
+ * Field order matches the constructor expression in TicketRepository
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCountDTO {
+    private Status status;
+    private Priority priority;
+    private Category category;
+    private long count;
+}
@@ -0,0 +1,19 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A row of a bulk import that was not stored
+ * Rows are numbered from 1 in input order, not counting a CSV header
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketImportErrorDTO {
+    private long row;
+    private String message;
+}
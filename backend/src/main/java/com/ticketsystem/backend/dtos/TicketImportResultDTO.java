@@ -0,0 +1,25 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import
+ * Only the first rejected rows are listed; errorsTruncated tells whether more were rejected
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketImportResultDTO {
+    private long rowCount;
+    private long importedCount;
+    private long rejectedCount;
+    private List<TicketImportErrorDTO> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,36 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query parameters for a keyset-paginated ticket listing
+ * All filters are optional; cursor is the nextCursor value of the previous page
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketPageRequest {
+    private Status status;
+    private Priority priority;
+    private Category category;
+    private Long createdById;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    private String cursor;
+    private Integer size;
+}
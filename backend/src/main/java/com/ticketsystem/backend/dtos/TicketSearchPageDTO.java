@@ -0,0 +1,21 @@
+package com.ticketsystem.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchPageDTO {
+    private List<TicketSearchHitDTO> hits = new ArrayList<>();
+    private long totalHits;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
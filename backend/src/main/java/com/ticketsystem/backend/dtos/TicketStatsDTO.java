@@ -0,0 +1,27 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatsDTO {
+    private long totalCount;
+    private long openCount;
+    private Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    private Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+    private Map<Category, Long> byCategory = new EnumMap<>(Category.class);
+    private OpenTicketAgeDTO openTicketAge;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,22 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.enums.StatusChangeOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a bulk status change for one ticket
+ * oldStatus is null if the ticket was not found
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatusChangeDTO {
+    private Long ticketId;
+    private StatusChangeOutcome outcome;
+    private Status oldStatus;
+}
@@ -0,0 +1,21 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatusCountsDTO {
+    private long openCount;
+    private Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    private LocalDateTime lastCheckedAt;
+}
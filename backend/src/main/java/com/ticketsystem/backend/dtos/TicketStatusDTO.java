@@ -0,0 +1,20 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Id and current status of a ticket
+ * Field order matches the constructor expression in TicketRepository
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatusDTO {
+    private Long id;
+    private Status status;
+}
@@ -0,0 +1,30 @@
+package com.ticketsystem.backend.dtos;
+
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ticket columns shown in list views, without description or comments
+ * Field order matches the constructor expression in TicketRepository
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSummaryDTO {
+    private Long id;
+    private String title;
+    private Priority priority;
+    private Category category;
+    private Status status;
+    private LocalDateTime createdDate;
+    private LocalDateTime lastUpdated;
+    private Long createdById;
+}
@@ -10,9 +10,14 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "IDX_AUDIT_CREATED_ID", columnList = "createdDate, id"),
+        @Index(name = "IDX_AUDIT_TICKET_CREATED", columnList = "ticket_id, createdDate, id")
+})
 public class AuditLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+    @SequenceGenerator(name = "audit_log_seq", sequenceName = "AUDIT_LOG_ID_SEQ", allocationSize = 50)
     private Long id;
 
     private String action;  //actions like added comment or changed status
@@ -3,6 +3,9 @@ package com.ticketsystem.backend.entities;
 import com.ticketsystem.backend.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +15,19 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "IDX_TICKET_UPDATED_ID", columnList = "lastUpdated, id"),
+        @Index(name = "IDX_TICKET_STATUS_UPDATED", columnList = "status, lastUpdated, id"),
+        @Index(name = "IDX_TICKET_CREATOR_UPDATED", columnList = "created_by_user_id, lastUpdated, id"),
+        // Covers the dashboard statistics, which then read the index instead of the table
+        @Index(name = "IDX_TICKET_STATS", columnList = "status, priority, category, createdDate")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tickets")
 public class Ticket {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequence IDs are known before the insert, so inserts can be batched; 50 IDs are reserved per round trip
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "TICKET_ID_SEQ", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -32,15 +45,29 @@ public class Ticket {
     private Status status = Status.NEW; //all new tickets gets created with a status of NEW
 
     private LocalDateTime createdDate = LocalDateTime.now();
+
+    // Keyset pages and the change feed order by it, so every ticket has one from the start
+    @Column(nullable = false)
     private LocalDateTime lastUpdated;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_user_id")
     private User createdBy;
 
+    // Collections of tickets loaded together are initialized in batches rather than one query per ticket
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticket-comments")
     private List<TicketComment> ticketComments = new ArrayList<>();
 
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<AuditLog> auditLogs = new ArrayList<>();
+
+    @PrePersist
+    void defaultLastUpdated() {
+        if (lastUpdated == null) {
+            lastUpdated = createdDate != null ? createdDate : LocalDateTime.now();
+        }
+    }
 }
\ No newline at end of file
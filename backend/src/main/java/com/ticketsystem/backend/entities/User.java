@@ -3,6 +3,8 @@ package com.ticketsystem.backend.entities;
 import com.ticketsystem.backend.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @AllArgsConstructor
@@ -10,9 +12,11 @@ import lombok.*;
 @Getter
 @Setter
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "USER_ID_SEQ", allocationSize = 50)
     private Long id;
 
     private String username;
@@ -0,0 +1,28 @@
+package com.ticketsystem.backend.enums;
+
+/**
+ * Where audit entries are kept
+ * DATABASE stores them in the AUDIT_LOG table, JOURNAL appends them to the local audit journal files
+ * instead, BOTH does both; the audit log listing and export only read the database
+ */
+public enum AuditStore {
+    DATABASE(true, false),
+    JOURNAL(false, true),
+    BOTH(true, true);
+
+    private final boolean database;
+    private final boolean journal;
+
+    AuditStore(boolean database, boolean journal) {
+        this.database = database;
+        this.journal = journal;
+    }
+
+    public boolean database() {
+        return database;
+    }
+
+    public boolean journal() {
+        return journal;
+    }
+}
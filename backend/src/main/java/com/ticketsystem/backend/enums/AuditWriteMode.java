@@ -0,0 +1,10 @@
+package com.ticketsystem.backend.enums;
+
+/**
+ * How audit entries reach the database
+ * SYNC writes them in the transaction of the audited change, so both commit or roll back together;
+ * ASYNC queues them once that transaction has committed and writes them in batches
+ */
+public enum AuditWriteMode {
+    SYNC, ASYNC
+}
@@ -0,0 +1,5 @@
+package com.ticketsystem.backend.enums;
+
+public enum ImportFormat {
+    JSON, CSV
+}
@@ -0,0 +1,5 @@
+package com.ticketsystem.backend.enums;
+
+public enum StatusChangeOutcome {
+    UPDATED, UNCHANGED, NOT_FOUND
+}
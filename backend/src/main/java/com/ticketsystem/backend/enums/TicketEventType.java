@@ -0,0 +1,5 @@
+package com.ticketsystem.backend.enums;
+
+public enum TicketEventType {
+    CREATED, STATUS_CHANGED, COMMENT_ADDED
+}
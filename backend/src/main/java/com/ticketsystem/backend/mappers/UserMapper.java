@@ -1,5 +1,6 @@
 package com.ticketsystem.backend.mappers;
 
+import com.ticketsystem.backend.dtos.CachedUser;
 import com.ticketsystem.backend.dtos.LoginResponse;
 import com.ticketsystem.backend.dtos.UserDTO;
 import com.ticketsystem.backend.entities.User;
@@ -13,11 +14,17 @@ public interface UserMapper {
     @Mapping(target = "itSupport", expression = "java(user.getRole() == Role.ROLE_IT_SUPPORT)")
     UserDTO toDTO(User user);
 
+    @Mapping(target = "itSupport", expression = "java(cachedUser.isItSupport())")
+    @Mapping(target = "role", expression = "java(cachedUser.role().name())")
+    UserDTO toDTO(CachedUser cachedUser);
+
     @Mapping(target = "password", ignore = true)
     User toEntity(UserDTO userDTO);
 
     List<UserDTO> toDTOList(List<User> users);
 
+    List<UserDTO> cachedToDTOList(List<CachedUser> cachedUsers);
+
     @Mapping(target = "userId", source = "id")
     @Mapping(target = "itSupport", expression = "java(user.getRole() == Role.ROLE_IT_SUPPORT)")
     LoginResponse toLoginResponse(User user);
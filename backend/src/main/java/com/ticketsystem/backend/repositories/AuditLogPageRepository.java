@@ -0,0 +1,26 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset pages of audit entries ordered by (createdDate, id) descending
+ * Null filters are left out of the statement, and a null beforeCreated starts from the newest entry
+ */
+public interface AuditLogPageRepository {
+
+    /**
+     * Keyset page of audit entries
+     */
+    List<AuditLog> findPage(Long ticketId,
+                            Long performedById,
+                            String action,
+                            LocalDateTime from,
+                            LocalDateTime to,
+                            LocalDateTime beforeCreated,
+                            Long beforeId,
+                            Pageable pageable);
+}
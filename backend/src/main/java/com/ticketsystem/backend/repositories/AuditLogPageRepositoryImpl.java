@@ -0,0 +1,68 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds each page query from the filters actually supplied, like TicketPageRepositoryImpl,
+ * so pages range-scan the (createdDate, id) and (ticket, createdDate, id) indexes
+ */
+class AuditLogPageRepositoryImpl implements AuditLogPageRepository {
+
+    private final EntityManager entityManager;
+
+    AuditLogPageRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AuditLog> findPage(Long ticketId, Long performedById, String action,
+                                   LocalDateTime from, LocalDateTime to,
+                                   LocalDateTime beforeCreated, Long beforeId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> auditLog = query.from(AuditLog.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (ticketId != null) {
+            // Compares the foreign key column, the ticket is not joined
+            predicates.add(cb.equal(auditLog.get("ticket").get("id"), ticketId));
+        }
+        if (performedById != null) {
+            predicates.add(cb.equal(auditLog.get("performedBy").get("id"), performedById));
+        }
+        if (action != null) {
+            predicates.add(cb.equal(auditLog.get("action"), action));
+        }
+        Path<LocalDateTime> createdDate = auditLog.get("createdDate");
+        Path<Long> id = auditLog.get("id");
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdDate, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(createdDate, to));
+        }
+        if (beforeCreated != null) {
+            // The leading range condition is what lets the index seek to the cursor
+            predicates.add(cb.lessThanOrEqualTo(createdDate, beforeCreated));
+            predicates.add(cb.or(cb.lessThan(createdDate, beforeCreated), cb.lessThan(id, beforeId)));
+        }
+        query.select(auditLog)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdDate), cb.desc(id));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogPageRepository {
+
+    /**
+     * Forward-only stream of audit entries for exports, in the order they were written
+     * Loaded read-only; the caller must clear the persistence context as it goes
+     * and close the stream inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT a FROM AuditLog a " +
+            "WHERE (:ticketId IS NULL OR a.ticket.id = :ticketId) " +
+            "AND (:performedById IS NULL OR a.performedBy.id = :performedById) " +
+            "AND (:action IS NULL OR a.action = :action) " +
+            "AND (:from IS NULL OR a.createdDate >= :from) " +
+            "AND (:to IS NULL OR a.createdDate < :to) " +
+            "ORDER BY a.createdDate, a.id")
+    Stream<AuditLog> streamForExport(@Param("ticketId") Long ticketId,
+                                     @Param("performedById") Long performedById,
+                                     @Param("action") String action,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+}
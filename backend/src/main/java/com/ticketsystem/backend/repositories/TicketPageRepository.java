@@ -0,0 +1,56 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset pages of tickets ordered by (lastUpdated, id) descending
+ * Null filters are left out of the statement, and a null afterUpdated starts from the most recent ticket
+ */
+public interface TicketPageRepository {
+
+    /**
+     * Keyset page of tickets
+     * Comments are not fetch-joined here because that would force in-memory pagination,
+     * they are loaded by batch fetching instead
+     */
+    List<Ticket> findPage(Status status,
+                          Priority priority,
+                          Category category,
+                          Long createdById,
+                          LocalDateTime createdFrom,
+                          LocalDateTime createdTo,
+                          LocalDateTime afterUpdated,
+                          Long afterId,
+                          Pageable pageable);
+
+    /**
+     * Keyset page of ticket summaries selecting only the list-view columns
+     */
+    List<TicketSummaryDTO> findSummaryPage(Status status,
+                                           Priority priority,
+                                           Category category,
+                                           Long createdById,
+                                           LocalDateTime createdFrom,
+                                           LocalDateTime createdTo,
+                                           LocalDateTime afterUpdated,
+                                           Long afterId,
+                                           Pageable pageable);
+
+    /**
+     * Tickets changed after a position, oldest change first, for incremental refreshes
+     * Ordered by (lastUpdated, id) ascending; a null since starts from the oldest change
+     * Comments are loaded by batch fetching, like findPage
+     */
+    List<Ticket> findChangedSince(Long createdById,
+                                  LocalDateTime since,
+                                  Long sinceId,
+                                  Pageable pageable);
+}
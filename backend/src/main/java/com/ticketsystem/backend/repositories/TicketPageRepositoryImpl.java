@@ -0,0 +1,134 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds each page query from the filters actually supplied
+ * A catch-all "(:x IS NULL OR col = :x)" statement gets one generic plan, which cannot range-scan the
+ * (status, lastUpdated, id) or (creator, lastUpdated, id) indexes; here every filter combination is its
+ * own statement with its own plan
+ */
+class TicketPageRepositoryImpl implements TicketPageRepository {
+
+    private final EntityManager entityManager;
+
+    TicketPageRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Ticket> findPage(Status status, Priority priority, Category category, Long createdById,
+                                 LocalDateTime createdFrom, LocalDateTime createdTo,
+                                 LocalDateTime afterUpdated, Long afterId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> ticket = query.from(Ticket.class);
+        query.select(ticket);
+        page(cb, query, ticket, status, priority, category, createdById, createdFrom, createdTo, afterUpdated, afterId);
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<TicketSummaryDTO> findSummaryPage(Status status, Priority priority, Category category, Long createdById,
+                                                  LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                  LocalDateTime afterUpdated, Long afterId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryDTO> query = cb.createQuery(TicketSummaryDTO.class);
+        Root<Ticket> ticket = query.from(Ticket.class);
+        query.select(cb.construct(TicketSummaryDTO.class,
+                ticket.get("id"),
+                ticket.get("title"),
+                ticket.get("priority"),
+                ticket.get("category"),
+                ticket.get("status"),
+                ticket.get("createdDate"),
+                ticket.get("lastUpdated"),
+                ticket.get("createdBy").get("id")));
+        page(cb, query, ticket, status, priority, category, createdById, createdFrom, createdTo, afterUpdated, afterId);
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<Ticket> findChangedSince(Long createdById, LocalDateTime since, Long sinceId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> ticket = query.from(Ticket.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (createdById != null) {
+            predicates.add(cb.equal(ticket.get("createdBy").get("id"), createdById));
+        }
+        Path<LocalDateTime> lastUpdated = ticket.get("lastUpdated");
+        Path<Long> id = ticket.get("id");
+        if (since != null) {
+            predicates.add(cb.greaterThanOrEqualTo(lastUpdated, since));
+            predicates.add(cb.or(cb.greaterThan(lastUpdated, since), cb.greaterThan(id, sinceId)));
+        }
+        query.select(ticket)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(lastUpdated), cb.asc(id));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    /**
+     * Adds the supplied filters, the keyset condition and the page order to a query
+     */
+    private static void page(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Ticket> ticket,
+                             Status status, Priority priority, Category category, Long createdById,
+                             LocalDateTime createdFrom, LocalDateTime createdTo,
+                             LocalDateTime afterUpdated, Long afterId) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(ticket.get("status"), status));
+        }
+        if (priority != null) {
+            predicates.add(cb.equal(ticket.get("priority"), priority));
+        }
+        if (category != null) {
+            predicates.add(cb.equal(ticket.get("category"), category));
+        }
+        if (createdById != null) {
+            // Compares the foreign key column, the user is not joined
+            predicates.add(cb.equal(ticket.get("createdBy").get("id"), createdById));
+        }
+        if (createdFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(ticket.get("createdDate"), createdFrom));
+        }
+        if (createdTo != null) {
+            predicates.add(cb.lessThan(ticket.get("createdDate"), createdTo));
+        }
+        Path<LocalDateTime> lastUpdated = ticket.get("lastUpdated");
+        Path<Long> id = ticket.get("id");
+        if (afterUpdated != null) {
+            // The leading range condition is what lets the index seek to the cursor
+            predicates.add(cb.lessThanOrEqualTo(lastUpdated, afterUpdated));
+            predicates.add(cb.or(cb.lessThan(lastUpdated, afterUpdated), cb.lessThan(id, afterId)));
+        }
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(lastUpdated), cb.desc(id));
+    }
+}
@@ -1,12 +1,125 @@
 package com.ticketsystem.backend.repositories;
 
+import com.ticketsystem.backend.dtos.OpenTicketAgeDTO;
+import com.ticketsystem.backend.dtos.TicketCountDTO;
+import com.ticketsystem.backend.dtos.TicketStatusDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
 import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
 import com.ticketsystem.backend.enums.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketPageRepository {
+
+    // List queries fetch comments in the same statement since every ticket DTO carries them
+    @Override
+    @EntityGraph(attributePaths = "ticketComments")
+    List<Ticket> findAll();
 
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+    @EntityGraph(attributePaths = "ticketComments")
     List<Ticket> findByCreatedBy_Id(Long userId);
+
+    @EntityGraph(attributePaths = "ticketComments")
     List<Ticket> findByStatus(Status status);
 
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = "ticketComments")
+    List<Ticket> findByIdIn(Collection<Long> ids);
+
+    /**
+     * List-view columns of the given tickets, in no particular order
+     */
+    @Query("SELECT new com.ticketsystem.backend.dtos.TicketSummaryDTO(" +
+            "t.id, t.title, t.priority, t.category, t.status, t.createdDate, t.lastUpdated, t.createdBy.id) " +
+            "FROM Ticket t WHERE t.id IN :ids")
+    List<TicketSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Next chunk of ticket IDs in ascending order, for walking every ticket in batches
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Current status of tickets about to be changed in bulk, locked until the transaction ends
+     * so the old status written to the audit log cannot go stale
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.ticketsystem.backend.dtos.TicketStatusDTO(t.id, t.status) FROM Ticket t WHERE t.id IN :ids")
+    List<TicketStatusDTO> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets the status of several tickets in one statement
+     * Runs past the persistence context, which is cleared afterwards; Hibernate evicts the tickets cache region
+     * @return Number of updated tickets
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = :status, t.lastUpdated = :lastUpdated WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") Status status,
+                     @Param("lastUpdated") LocalDateTime lastUpdated);
+
+    /**
+     * Ticket counts per combination of status, priority and category
+     * At most one row per combination, so the result stays small whatever the table size
+     */
+    @Query("SELECT new com.ticketsystem.backend.dtos.TicketCountDTO(t.status, t.priority, t.category, COUNT(t)) " +
+            "FROM Ticket t GROUP BY t.status, t.priority, t.category")
+    List<TicketCountDTO> countByStatusPriorityAndCategory();
+
+    /**
+     * Tickets in the given statuses by age, counted in one pass
+     * Each bucket includes its lower age bound: a ticket exactly one day old counts as one to seven days old
+     */
+    @Query("SELECT new com.ticketsystem.backend.dtos.OpenTicketAgeDTO(" +
+            "COALESCE(SUM(CASE WHEN t.createdDate > :oneDayAgo THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.createdDate <= :oneDayAgo AND t.createdDate > :sevenDaysAgo THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.createdDate <= :sevenDaysAgo AND t.createdDate > :thirtyDaysAgo THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.createdDate <= :thirtyDaysAgo THEN 1 ELSE 0 END), 0)) " +
+            "FROM Ticket t WHERE t.status IN :statuses")
+    OpenTicketAgeDTO countByAge(@Param("statuses") Collection<Status> statuses,
+                                @Param("oneDayAgo") LocalDateTime oneDayAgo,
+                                @Param("sevenDaysAgo") LocalDateTime sevenDaysAgo,
+                                @Param("thirtyDaysAgo") LocalDateTime thirtyDaysAgo);
+
+    /**
+     * Forward-only stream of tickets for exports, oldest first
+     * Loaded read-only and kept out of the second-level cache; the caller must clear
+     * the persistence context as it goes and close the stream inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT t FROM Ticket t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "AND (:category IS NULL OR t.category = :category) " +
+            "AND (:createdById IS NULL OR t.createdBy.id = :createdById) " +
+            "AND (:createdFrom IS NULL OR t.createdDate >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR t.createdDate < :createdTo) " +
+            "ORDER BY t.id")
+    Stream<Ticket> streamForExport(@Param("status") Status status,
+                                   @Param("priority") Priority priority,
+                                   @Param("category") Category category,
+                                   @Param("createdById") Long createdById,
+                                   @Param("createdFrom") LocalDateTime createdFrom,
+                                   @Param("createdTo") LocalDateTime createdTo);
+}
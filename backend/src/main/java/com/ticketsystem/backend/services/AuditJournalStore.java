@@ -0,0 +1,177 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.enums.AuditStore;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import com.ticketsystem.backend.util.AuditJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Audit entries in the local audit journal, for deployments that keep them out of the database
+ * Each entry is one journal record timestamped with its creation time in UTC; the journal is only
+ * opened when ticketsystem.audit.store includes it
+ */
+@Component
+@Slf4j
+public class AuditJournalStore {
+
+    private static final int NULL_STRING = -1;
+
+    private final AuditStore store;
+    private final AuditJournal journal;
+    private final Counter appended;
+
+    public AuditJournalStore(MeterRegistry meterRegistry,
+                             @Value("${ticketsystem.audit.store:DATABASE}") AuditStore store,
+                             @Value("${ticketsystem.audit.journal.directory:audit-journal}") String directory,
+                             @Value("${ticketsystem.audit.journal.segment-size:64MB}") DataSize segmentSize,
+                             @Value("${ticketsystem.audit.journal.index-interval:4KB}") DataSize indexInterval)
+            throws IOException {
+        this.store = store;
+        this.appended = Counter.builder("ticketsystem.audit.journal.appended")
+                .description("Audit entries appended to the journal")
+                .register(meterRegistry);
+        if (!store.journal()) {
+            journal = null;
+            return;
+        }
+        journal = AuditJournal.open(Path.of(directory), Math.toIntExact(segmentSize.toBytes()),
+                Math.toIntExact(indexInterval.toBytes()));
+        Gauge.builder("ticketsystem.audit.journal.size", journal, AuditJournal::size)
+                .description("Bytes of audit entries in the journal")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("ticketsystem.audit.journal.segments", journal, AuditJournal::segmentCount)
+                .description("Segment files of the audit journal")
+                .register(meterRegistry);
+        log.info("Opened audit journal in {} with {} segments of {}", Path.of(directory).toAbsolutePath(),
+                journal.segmentCount(), segmentSize);
+    }
+
+    /**
+     * @return Where audit entries are kept
+     */
+    public AuditStore store() {
+        return store;
+    }
+
+    /**
+     * @return Whether audit entries go to the journal
+     */
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * Appends audit entries to the journal
+     * @param events The entries to append
+     * @throws UncheckedIOException if a new segment file cannot be created
+     */
+    public void append(List<AuditEvent> events) {
+        try {
+            for (AuditEvent event : events) {
+                journal.append(toMillis(event.createdDate()), encode(event));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to the audit journal", e);
+        }
+        appended.increment(events.size());
+    }
+
+    /**
+     * Reads journaled audit entries, oldest first
+     * Entries are found by the time they were journaled, which is their creation time unless an older
+     * entry was journaled after a newer one
+     * @param from Earliest time, inclusive; null for no lower bound
+     * @param to Latest time, inclusive; null for no upper bound
+     * @param visitor Receives each entry until it returns false
+     * @return Number of read entries
+     */
+    public long scan(LocalDateTime from, LocalDateTime to, Predicate<AuditEvent> visitor) {
+        return journal.scan(from == null ? Long.MIN_VALUE : toMillis(from),
+                to == null ? Long.MAX_VALUE : toMillis(to),
+                (timestamp, payload) -> visitor.test(decode(payload)));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Record layout: ticket ID, user ID, creation time as epoch second and nano, then action,
+     * old and new value as UTF-8 with their length in front
+     */
+    static ByteBuffer encode(AuditEvent event) {
+        byte[] action = utf8(event.action());
+        byte[] oldValue = utf8(event.oldValue());
+        byte[] newValue = utf8(event.newValue());
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 8 + 8 + 4 + 12 + length(action) + length(oldValue) + length(newValue));
+        buffer.putLong(event.ticketId())
+                .putLong(event.performedById())
+                .putLong(event.createdDate().toEpochSecond(ZoneOffset.UTC))
+                .putInt(event.createdDate().getNano());
+        putString(buffer, action);
+        putString(buffer, oldValue);
+        putString(buffer, newValue);
+        return buffer.flip();
+    }
+
+    static AuditEvent decode(ByteBuffer payload) {
+        long ticketId = payload.getLong();
+        long performedById = payload.getLong();
+        LocalDateTime createdDate = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        String action = getString(payload);
+        String oldValue = getString(payload);
+        String newValue = getString(payload);
+        return new AuditEvent(ticketId, action, oldValue, newValue, performedById, createdDate);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_STRING);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+}
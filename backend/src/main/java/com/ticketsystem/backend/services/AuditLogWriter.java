@@ -0,0 +1,353 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.enums.AuditStore;
+import com.ticketsystem.backend.enums.AuditWriteMode;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit entries, either in the caller's transaction or through a bounded queue drained in batches
+ * In ASYNC mode an entry is queued once the audited change has committed and written by a single writer
+ * thread, which stores everything queued meanwhile in one transaction; the audited request does not wait
+ * for it. When the queue is full the request writes its own entries instead, so none are dropped.
+ * Entries also go to the audit journal when ticketsystem.audit.store includes it
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    /**
+     * Audit entry to write
+     */
+    public record AuditEvent(Long ticketId, String action, String oldValue, String newValue,
+                             Long performedById, LocalDateTime createdDate) {
+    }
+
+    private record Queued(AuditEvent event, long queuedAt) {
+    }
+
+    // The writer is woken up by new entries; this only bounds how long a missed wake-up can delay it
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AuditLogRepository auditLogRepository;
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final AuditJournalStore journalStore;
+    private final TransactionTemplate writeTransaction;
+    private final AuditWriteMode mode;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+
+    // Lock-free queue; the size is reserved before an offer, which keeps it within capacity
+    private final Queue<Queued> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean running;
+
+    private final Counter written;
+    private final Counter failed;
+    private final Counter backpressure;
+    private final Timer lag;
+    private final DistributionSummary batchSizes;
+
+    public AuditLogWriter(AuditLogRepository auditLogRepository,
+                          TicketRepository ticketRepository,
+                          UserRepository userRepository,
+                          AuditJournalStore journalStore,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${ticketsystem.audit.mode:ASYNC}") AuditWriteMode mode,
+                          @Value("${ticketsystem.audit.queue-capacity:10000}") int capacity,
+                          @Value("${ticketsystem.audit.batch-size:500}") int batchSize,
+                          @Value("${ticketsystem.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.auditLogRepository = auditLogRepository;
+        this.ticketRepository = ticketRepository;
+        this.userRepository = userRepository;
+        this.journalStore = journalStore;
+        // Queued entries are written after the audited transaction, whose resources may still be bound
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.mode = mode;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.written = Counter.builder("ticketsystem.audit.written")
+                .description("Audit entries written")
+                .register(meterRegistry);
+        this.failed = Counter.builder("ticketsystem.audit.failed")
+                .description("Audit entries that could not be written")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("ticketsystem.audit.backpressure")
+                .description("Audit entries written by the request because the queue was full")
+                .register(meterRegistry);
+        this.lag = Timer.builder("ticketsystem.audit.lag")
+                .description("Time from queueing an audit entry to its commit")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("ticketsystem.audit.batch.size")
+                .description("Audit entries per write transaction")
+                .register(meterRegistry);
+        Gauge.builder("ticketsystem.audit.queue.size", queued, AtomicInteger::get)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("ticketsystem.audit.queue.age", this, AuditLogWriter::oldestQueuedSeconds)
+                .description("Seconds the oldest queued audit entry has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        AuditStore store = journalStore.store();
+        if (mode == AuditWriteMode.ASYNC && store.database()) {
+            running = true;
+            writer = new Thread(this::drain, "audit-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+        log.info("Writing audit entries to {} {}", store, writer != null
+                ? "in batches of up to " + batchSize + " from a queue of " + capacity
+                : mode == AuditWriteMode.ASYNC ? "after the audited transaction" : "in the audited transaction");
+    }
+
+    /**
+     * Records an audit entry
+     * @param event The entry to write
+     */
+    public void record(AuditEvent event) {
+        record(List.of(event));
+    }
+
+    /**
+     * Records audit entries
+     * In SYNC mode they are saved in the current transaction and journaled just before it commits, so a
+     * failed journal append fails the transaction; in ASYNC mode they are journaled and queued once it commits,
+     * or right away outside a transaction, and dropped if it rolls back
+     * @param events The entries to write
+     */
+    public void record(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<AuditEvent> copy = List.copyOf(events);
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (mode == AuditWriteMode.SYNC) {
+            if (journalStore.store().database()) {
+                auditLogRepository.saveAll(toEntities(copy));
+            }
+            if (!journalStore.isEnabled()) {
+                return;
+            }
+            if (inTransaction) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        journalStore.append(copy);
+                    }
+                });
+            } else {
+                journalStore.append(copy);
+            }
+            return;
+        }
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed(copy);
+                }
+            });
+        } else {
+            committed(copy);
+        }
+    }
+
+    /**
+     * @return Whether entries are written in the audited transaction or queued
+     */
+    public AuditWriteMode mode() {
+        return mode;
+    }
+
+    /**
+     * @return Number of entries waiting to be written
+     */
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    private void committed(List<AuditEvent> events) {
+        if (journalStore.isEnabled()) {
+            try {
+                journalStore.append(events);
+            } catch (RuntimeException e) {
+                // The change is already committed, all that is left is to keep the entries in the log
+                failed.increment(events.size());
+                log.error("Could not journal audit entries {}", events, e);
+            }
+        }
+        if (journalStore.store().database()) {
+            enqueue(events);
+        }
+    }
+
+    private void enqueue(List<AuditEvent> events) {
+        long now = System.nanoTime();
+        List<Queued> overflow = null;
+        for (AuditEvent event : events) {
+            Queued entry = new Queued(event, now);
+            if (!running || !offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+        if (overflow != null) {
+            // Slows the request down instead of dropping entries or growing the queue without bound
+            backpressure.increment(overflow.size());
+            write(overflow);
+        }
+    }
+
+    private boolean offer(Queued entry) {
+        int size;
+        do {
+            size = queued.get();
+            if (size >= capacity) {
+                return false;
+            }
+        } while (!queued.compareAndSet(size, size + 1));
+        queue.offer(entry);
+        if (size == 0) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * Writer loop: everything queued while the previous batch was committing goes into the next one
+     */
+    private void drain() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            Queued entry;
+            while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            queued.addAndGet(-batch.size());
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes entries in one transaction
+     * If it fails they are retried one by one, so only entries that cannot be stored are lost
+     */
+    private void write(List<Queued> entries) {
+        try {
+            insert(entries);
+            batchSizes.record(entries.size());
+        } catch (RuntimeException batchFailure) {
+            log.warn("Audit batch of {} entries failed, retrying them one by one: {}",
+                    entries.size(), batchFailure.getMessage());
+            for (Queued entry : entries) {
+                try {
+                    insert(List.of(entry));
+                    batchSizes.record(1);
+                } catch (RuntimeException e) {
+                    // Logged in full so the entry can be restored by hand
+                    failed.increment();
+                    log.error("Could not write audit entry {}", entry.event(), e);
+                }
+            }
+        }
+    }
+
+    private void insert(List<Queued> entries) {
+        writeTransaction.executeWithoutResult(status ->
+                auditLogRepository.saveAll(toEntities(entries.stream().map(Queued::event).toList())));
+        long now = System.nanoTime();
+        entries.forEach(entry -> lag.record(now - entry.queuedAt(), TimeUnit.NANOSECONDS));
+        written.increment(entries.size());
+    }
+
+    private List<AuditLog> toEntities(List<AuditEvent> events) {
+        List<AuditLog> auditLogs = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setAction(event.action());
+            auditLog.setOldValue(event.oldValue());
+            auditLog.setNewValue(event.newValue());
+            auditLog.setTicket(ticketRepository.getReferenceById(event.ticketId()));
+            auditLog.setPerformedBy(userRepository.getReferenceById(event.performedById()));
+            auditLog.setCreatedDate(event.createdDate());
+            auditLogs.add(auditLog);
+        }
+        return auditLogs;
+    }
+
+    private double oldestQueuedSeconds() {
+        Queued oldest = queue.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.queuedAt()) / 1e9;
+    }
+
+    /**
+     * Stops taking entries and writes what is still queued
+     * Entries recorded from now on are written by the request itself
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            log.error("Audit writer did not finish within {}, {} entries were not written", shutdownTimeout, queued.get());
+            return;
+        }
+        // Entries offered while the writer was leaving its loop
+        List<Queued> rest = new ArrayList<>();
+        Queued entry;
+        while ((entry = queue.poll()) != null) {
+            rest.add(entry);
+        }
+        if (!rest.isEmpty()) {
+            queued.addAndGet(-rest.size());
+            write(rest);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.enums.TicketEventType;
+import com.ticketsystem.backend.exceptions.UserNotFoundException;
+import com.ticketsystem.backend.repositories.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed ticket changes to connected clients over Server-Sent Events
+ * IT support receives every change, other users only changes to their own tickets
+ * Each subscriber has its own bounded queue drained by its own sender, a client that falls a full queue behind
+ * is disconnected and resyncs through the changes feed when it reconnects
+ */
+@Component
+@Slf4j
+public class TicketEventBroadcaster {
+
+    /**
+     * Application event published by the ticket service when a ticket changes
+     */
+    public record TicketChanged(TicketEventType type, TicketDTO ticket) {
+    }
+
+    private record Subscriber(CachedUser user, SseEmitter emitter,
+                              BlockingQueue<SseEmitter.SseEventBuilder> queue, AtomicBoolean draining) {
+
+        boolean canSee(TicketDTO ticket) {
+            return user.isItSupport() || user.id().equals(ticket.getCreatedById());
+        }
+    }
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final UserLookupCache userLookupCache;
+    private final UserRepository userRepository;
+    private final Duration timeout;
+    private final int queueCapacity;
+
+    // Blocking sends run here, one task per subscriber with queued events, so a stalled client only holds its own thread
+    private final ExecutorService senders = Executors.newCachedThreadPool(daemonThreads("ticket-events-"));
+    private final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("ticket-events-heartbeat-"));
+
+    public TicketEventBroadcaster(UserLookupCache userLookupCache,
+                                  UserRepository userRepository,
+                                  @Value("${ticketsystem.ticket-stream.timeout:PT30M}") Duration timeout,
+                                  @Value("${ticketsystem.ticket-stream.heartbeat:PT20S}") Duration heartbeat,
+                                  @Value("${ticketsystem.ticket-stream.queue-capacity:100}") int queueCapacity) {
+        this.userLookupCache = userLookupCache;
+        this.userRepository = userRepository;
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        // Comment lines keep idle connections open through proxies and reveal clients that went away
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens an event stream for a user
+     * @param userId ID of the subscribing user
+     * @return Emitter that receives the user's ticket events until it times out or the client leaves
+     * @throws UserNotFoundException if user doesn't exist
+     */
+    public SseEmitter subscribe(Long userId) {
+        CachedUser user = userLookupCache.get(userId, userRepository::findById)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(user, emitter,
+                new ArrayBlockingQueue<>(queueCapacity), new AtomicBoolean());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("User ID: {} subscribed to ticket events, {} subscribers", userId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Queues a ticket change for every subscriber allowed to see it, once its transaction has committed
+     * Never blocks the committing request, the sends happen on the subscribers' own threads
+     * @param event The committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketChanged(TicketChanged event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.canSee(event.ticket())) {
+                enqueue(subscriber, SseEmitter.event()
+                        .name(event.type().name())
+                        .id(String.valueOf(event.ticket().getId()))
+                        .data(event.ticket(), MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    /**
+     * @return Number of open event streams
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue().offer(event)) {
+            log.warn("Disconnecting slow ticket event subscriber, user ID: {} is {} events behind",
+                    subscriber.user().id(), queueCapacity);
+            drop(subscriber, null);
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder event = subscriber.queue().poll();
+            if (event == null) {
+                subscriber.draining().set(false);
+                // An event queued between the poll and the reset found the flag still set; pick it up here
+                if (subscriber.queue().isEmpty() || !subscriber.draining().compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                subscriber.emitter().send(event);
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected; drop it rather than failing the other sends
+                drop(subscriber, e);
+                return;
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, Throwable cause) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.queue().clear();
+        // Completing waits for a send still stuck on the connection, so never do it on the caller's thread
+        senders.execute(() -> {
+            if (cause == null) {
+                subscriber.emitter().complete();
+            } else {
+                subscriber.emitter().completeWithError(cause);
+            }
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+}
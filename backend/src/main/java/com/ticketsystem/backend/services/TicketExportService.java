@@ -0,0 +1,16 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.enums.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface TicketExportService {
+
+    // Access is checked right away; the returned body runs its own read-only transaction while it writes
+    StreamingResponseBody exportTickets(TicketPageRequest filter, ExportFormat format, Long userId);
+
+    StreamingResponseBody exportAuditLogs(AuditLogPageRequest filter, ExportFormat format, Long userId);
+
+    StreamingResponseBody exportAuditJournal(AuditLogPageRequest filter, ExportFormat format, Long userId);
+}
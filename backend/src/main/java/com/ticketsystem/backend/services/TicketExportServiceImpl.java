@@ -0,0 +1,248 @@
+package com.ticketsystem.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.enums.ExportFormat;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.exceptions.UserNotFoundException;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import com.ticketsystem.backend.util.ExportWriter;
+import com.ticketsystem.backend.util.ExportWriter.Column;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streaming exports of tickets and audit logs
+ * Rows are read through a forward-only query and written as they arrive; the persistence context
+ * is cleared every few rows, so memory use does not grow with the size of the export.
+ * Journaled audit entries are written straight from the mapped journal files
+ */
+@Service
+@Slf4j
+public class TicketExportServiceImpl implements TicketExportService {
+
+    static final List<Column<Ticket>> TICKET_COLUMNS = List.of(
+            new Column<>("id", Ticket::getId),
+            new Column<>("title", Ticket::getTitle),
+            new Column<>("description", Ticket::getDescription),
+            new Column<>("priority", Ticket::getPriority),
+            new Column<>("category", Ticket::getCategory),
+            new Column<>("status", Ticket::getStatus),
+            new Column<>("createdDate", Ticket::getCreatedDate),
+            new Column<>("lastUpdated", Ticket::getLastUpdated),
+            // Reading the ID of a lazy reference does not load the user
+            new Column<>("createdById", ticket -> ticket.getCreatedBy() == null ? null : ticket.getCreatedBy().getId()));
+
+    static final List<Column<AuditLog>> AUDIT_LOG_COLUMNS = List.of(
+            new Column<>("id", AuditLog::getId),
+            new Column<>("ticketId", auditLog -> auditLog.getTicket() == null ? null : auditLog.getTicket().getId()),
+            new Column<>("action", AuditLog::getAction),
+            new Column<>("oldValue", AuditLog::getOldValue),
+            new Column<>("newValue", AuditLog::getNewValue),
+            new Column<>("performedById", auditLog -> auditLog.getPerformedBy() == null ? null : auditLog.getPerformedBy().getId()),
+            new Column<>("createdDate", AuditLog::getCreatedDate));
+
+    static final List<Column<AuditEvent>> AUDIT_EVENT_COLUMNS = List.of(
+            new Column<>("ticketId", AuditEvent::ticketId),
+            new Column<>("action", AuditEvent::action),
+            new Column<>("oldValue", AuditEvent::oldValue),
+            new Column<>("newValue", AuditEvent::newValue),
+            new Column<>("performedById", AuditEvent::performedById),
+            new Column<>("createdDate", AuditEvent::createdDate));
+
+    private final TicketRepository ticketRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final AuditJournalStore auditJournalStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public TicketExportServiceImpl(TicketRepository ticketRepository,
+                                   AuditLogRepository auditLogRepository,
+                                   UserRepository userRepository,
+                                   UserLookupCache userLookupCache,
+                                   AuditJournalStore auditJournalStore,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${ticketsystem.export.clear-interval:1000}") int clearInterval) {
+        this.ticketRepository = ticketRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.auditJournalStore = auditJournalStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * Exports tickets ordered by ID; employees only export their own tickets
+     * @param filter Filters of the ticket listing; cursor and size are ignored
+     * @param format Output format
+     * @param userId ID of the user making the request
+     * @return Body that writes the export
+     * @throws UserNotFoundException if user doesn't exist
+     */
+    @Override
+    public StreamingResponseBody exportTickets(TicketPageRequest filter, ExportFormat format, Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        Long createdById = user.isItSupport() ? filter.getCreatedById() : user.id();
+
+        return output -> export("tickets", format, output, TICKET_COLUMNS, () -> ticketRepository.streamForExport(
+                filter.getStatus(),
+                filter.getPriority(),
+                filter.getCategory(),
+                createdById,
+                filter.getCreatedFrom(),
+                filter.getCreatedTo()));
+    }
+
+    /**
+     * Exports audit logs, oldest first (requires IT Support role)
+     * @param filter Filters of the audit log listing; cursor and size are ignored
+     * @param format Output format
+     * @param userId ID of the user making the request
+     * @return Body that writes the export
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    public StreamingResponseBody exportAuditLogs(AuditLogPageRequest filter, ExportFormat format, Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized audit export attempt by non-IT support user: {}", user.username());
+            throw new UnauthorizedAccessException("Operation not permitted for non-IT support users");
+        }
+
+        return output -> export("audit logs", format, output, AUDIT_LOG_COLUMNS, () -> auditLogRepository.streamForExport(
+                filter.getTicketId(),
+                filter.getPerformedById(),
+                filter.getAction(),
+                filter.getFrom(),
+                filter.getTo()));
+    }
+
+    /**
+     * Exports journaled audit entries, oldest first (requires IT Support role)
+     * Only the from/to range narrows the read; the other filters are checked on every entry in it
+     * @param filter Filters of the audit log listing; cursor and size are ignored
+     * @param format Output format
+     * @param userId ID of the user making the request
+     * @return Body that writes the export
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     * @throws InvalidTicketDataException if audit entries are not journaled
+     */
+    @Override
+    public StreamingResponseBody exportAuditJournal(AuditLogPageRequest filter, ExportFormat format, Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized audit journal export attempt by non-IT support user: {}", user.username());
+            throw new UnauthorizedAccessException("Operation not permitted for non-IT support users");
+        }
+        if (!auditJournalStore.isEnabled()) {
+            throw new InvalidTicketDataException("The audit journal is not enabled");
+        }
+
+        return output -> {
+            long start = System.nanoTime();
+            ExportWriter<AuditEvent> writer = format == ExportFormat.CSV
+                    ? ExportWriter.csv(output, AUDIT_EVENT_COLUMNS)
+                    : ExportWriter.ndjson(output, objectMapper, AUDIT_EVENT_COLUMNS);
+            long[] count = new long[1];
+            try {
+                auditJournalStore.scan(filter.getFrom(), filter.getTo(), event -> {
+                    if (matches(filter, event)) {
+                        try {
+                            writer.write(event);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        count[0]++;
+                    }
+                    return true;
+                });
+            } catch (UncheckedIOException e) {
+                log.debug("Export of the audit journal aborted: {}", e.getCause().getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+            log.info("Exported {} journaled audit entries as {} in {} ms", count[0], format,
+                    (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    private static boolean matches(AuditLogPageRequest filter, AuditEvent event) {
+        return (filter.getTicketId() == null || filter.getTicketId().equals(event.ticketId()))
+                && (filter.getPerformedById() == null || filter.getPerformedById().equals(event.performedById()))
+                && (filter.getAction() == null || filter.getAction().equals(event.action()));
+    }
+
+    private CachedUser validateAndGetUser(Long userId) {
+        return userLookupCache.get(userId, userRepository::findById)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    /**
+     * Writes every row of a query inside one read-only transaction
+     * @throws IOException if writing fails, usually because the client went away
+     */
+    private <T> void export(String name, ExportFormat format, OutputStream output,
+                            List<Column<T>> columns, Supplier<Stream<T>> query) throws IOException {
+        long start = System.nanoTime();
+        ExportWriter<T> writer = format == ExportFormat.CSV
+                ? ExportWriter.csv(output, columns)
+                : ExportWriter.ndjson(output, objectMapper, columns);
+        long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                long rows = 0;
+                try (Stream<T> stream = query.get()) {
+                    Iterator<T> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next());
+                        if (++rows % clearInterval == 0) {
+                            // Written rows are not needed anymore; the open cursor is not affected
+                            entityManager.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return rows;
+            });
+        } catch (UncheckedIOException e) {
+            log.debug("Export of {} aborted: {}", name, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported {} {} as {} in {} ms", count, name, format, (System.nanoTime() - start) / 1_000_000);
+    }
+}
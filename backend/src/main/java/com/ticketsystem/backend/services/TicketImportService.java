@@ -0,0 +1,12 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.TicketImportResultDTO;
+import com.ticketsystem.backend.enums.ImportFormat;
+
+import java.io.InputStream;
+
+public interface TicketImportService {
+
+    // Commits in batches of its own, so no transaction spans the whole import
+    TicketImportResultDTO importTickets(InputStream input, ImportFormat format, Long userId);
+}
@@ -0,0 +1,231 @@
+package com.ticketsystem.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.config.MetricsConfig;
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketImportErrorDTO;
+import com.ticketsystem.backend.dtos.TicketImportResultDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.ImportFormat;
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.exceptions.UserNotFoundException;
+import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.util.TicketImportReader;
+import com.ticketsystem.backend.util.TicketImportReader.Row;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk ticket import
+ * Rows are read one at a time, validated with the rules of ticket creation and
+ * stored in batches of a configurable size, each in its own transaction
+ */
+@Service
+@Slf4j
+public class TicketImportServiceImpl implements TicketImportService {
+
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final TicketMapper ticketMapper;
+    private final TicketSearchService ticketSearchService;
+    private final TicketStatusCounters ticketStatusCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public TicketImportServiceImpl(TicketRepository ticketRepository,
+                                   UserRepository userRepository,
+                                   UserLookupCache userLookupCache,
+                                   TicketMapper ticketMapper,
+                                   TicketSearchService ticketSearchService,
+                                   TicketStatusCounters ticketStatusCounters,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${ticketsystem.import.batch-size:1000}") int batchSize,
+                                   @Value("${ticketsystem.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.ticketRepository = ticketRepository;
+        this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.ticketMapper = ticketMapper;
+        this.ticketSearchService = ticketSearchService;
+        this.ticketStatusCounters = ticketStatusCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Imported tickets are stamped with lastUpdated like any other change, see TicketServiceImpl.SYNC_OVERLAP
+        this.transactionTemplate.setTimeout(TicketServiceImpl.WRITE_TIMEOUT_SECONDS);
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports tickets from a JSON array or CSV file, created by the importing user
+     * Invalid rows are reported and skipped; rows read before malformed input are still stored.
+     * Imported tickets are not pushed to the event stream; clients see them on their next refresh.
+     * They are searchable as soon as their batch is stored
+     * @param input The file content, read as a stream
+     * @param format Format of the content
+     * @param userId ID of the importing user
+     * @return Counts of read, imported and rejected rows with the errors of the first rejected rows
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "import"})
+    public TicketImportResultDTO importTickets(InputStream input, ImportFormat format, Long userId) {
+        CachedUser user = userLookupCache.get(userId, userRepository::findById)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized import attempt by non-IT support user: {}", user.username());
+            throw new UnauthorizedAccessException("Operation not permitted for non-IT support users");
+        }
+
+        TicketImportResultDTO result = new TicketImportResultDTO();
+        List<Row> batch = new ArrayList<>(batchSize);
+        try (TicketImportReader reader = open(input, format)) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                result.setRowCount(row.number());
+                String error = row.error() != null ? row.error() : validate(row.ticket());
+                if (error != null) {
+                    reject(result, row.number(), error);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    store(batch, user.id(), result);
+                }
+            }
+        } catch (IOException e) {
+            reject(result, result.getRowCount() + 1, "Malformed input, import stopped: " + e.getMessage());
+        }
+        store(batch, user.id(), result);
+
+        log.info("Imported {} of {} tickets for user ID: {}", result.getImportedCount(), result.getRowCount(), userId);
+        return result;
+    }
+
+    private TicketImportReader open(InputStream input, ImportFormat format) throws IOException {
+        return format == ImportFormat.CSV
+                ? TicketImportReader.csv(input)
+                : TicketImportReader.json(input, objectMapper);
+    }
+
+    private static String validate(TicketDTO ticketDTO) {
+        try {
+            TicketServiceImpl.validateTicketData(ticketDTO);
+            return null;
+        } catch (InvalidTicketDataException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Stores a batch in one transaction and empties it
+     * If the batch fails, its rows are retried one by one so only the offending rows are rejected
+     * Stored tickets are indexed for search afterwards, outside the retry, so an indexing failure
+     * never stores a committed batch a second time
+     */
+    private void store(List<Row> batch, Long userId, TicketImportResultDTO result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<TicketDTO> stored;
+        try {
+            stored = insert(batch, userId);
+            result.setImportedCount(result.getImportedCount() + batch.size());
+        } catch (RuntimeException batchFailure) {
+            log.warn("Import batch failed, retrying its {} rows one by one: {}", batch.size(), batchFailure.getMessage());
+            stored = new ArrayList<>(batch.size());
+            for (Row row : batch) {
+                try {
+                    stored.addAll(insert(List.of(row), userId));
+                    result.setImportedCount(result.getImportedCount() + 1);
+                } catch (RuntimeException e) {
+                    // Only the first line; driver messages go on with the SQL statement
+                    String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                    reject(result, row.number(), "Could not be stored: " + cause.lines().findFirst().orElse(""));
+                }
+            }
+        }
+        batch.clear();
+        index(stored);
+    }
+
+    /**
+     * Inserts rows in one transaction
+     * @return The stored tickets
+     */
+    private List<TicketDTO> insert(List<Row> rows, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TicketDTO> stored = new ArrayList<>(rows.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            User creator = userRepository.getReferenceById(userId);
+            List<Ticket> tickets = new ArrayList<>(rows.size());
+            Map<Status, Long> created = new EnumMap<>(Status.class);
+            for (Row row : rows) {
+                Ticket ticket = ticketMapper.toEntity(row.ticket());
+                // Never overwrite an existing ticket with an imported ID
+                ticket.setId(null);
+                ticket.setStatus(row.ticket().getStatus() != null ? row.ticket().getStatus() : Status.NEW);
+                ticket.setCreatedDate(row.ticket().getCreatedDate() != null ? row.ticket().getCreatedDate() : now);
+                ticket.setLastUpdated(now);
+                ticket.setCreatedBy(creator);
+                tickets.add(ticket);
+                created.merge(ticket.getStatus(), 1L, Long::sum);
+            }
+            ticketRepository.saveAll(tickets);
+            ticketStatusCounters.record(created);
+            // The request-wide persistence context would otherwise keep every imported ticket
+            entityManager.flush();
+            stored.addAll(ticketMapper.toDTOList(tickets));
+            entityManager.clear();
+        });
+        return stored;
+    }
+
+    /**
+     * Adds committed tickets to the search index
+     * The tickets are stored either way; a failure only leaves them unsearchable until the next rebuild
+     */
+    private void index(List<TicketDTO> stored) {
+        try {
+            ticketSearchService.indexTickets(stored);
+        } catch (RuntimeException e) {
+            log.error("Could not index {} imported tickets, rebuild the search index to find them", stored.size(), e);
+        }
+    }
+
+    private void reject(TicketImportResultDTO result, long row, String message) {
+        result.setRejectedCount(result.getRejectedCount() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new TicketImportErrorDTO(row, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+}
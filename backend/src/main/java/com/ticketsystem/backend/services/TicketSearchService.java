@@ -0,0 +1,23 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.SearchIndexStatsDTO;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketSearchPageDTO;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface TicketSearchService {
+
+    // Hits come from the index, their list columns from the database
+    @Transactional(readOnly = true)
+    TicketSearchPageDTO search(String query, Integer page, Integer size, Long userId);
+
+    // Not transactional, every batch of the rebuild reads in its own transaction
+    SearchIndexStatsDTO rebuildIndex(Long userId);
+
+    SearchIndexStatsDTO rebuildIndex();
+
+    // Call after the tickets are committed
+    void indexTickets(Collection<TicketDTO> tickets);
+}
@@ -0,0 +1,258 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.config.MetricsConfig;
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.CommentDTO;
+import com.ticketsystem.backend.dtos.SearchIndexStatsDTO;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketSearchHitDTO;
+import com.ticketsystem.backend.dtos.TicketSearchPageDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.TicketComment;
+import com.ticketsystem.backend.enums.TicketEventType;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.exceptions.UserNotFoundException;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.TicketEventBroadcaster.TicketChanged;
+import com.ticketsystem.backend.util.TicketSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text ticket search over title, description and comments
+ * The index lives in memory: it is rebuilt from the database on startup and on request,
+ * and kept current from committed ticket creations, comments and imports
+ */
+@Service
+@Slf4j
+public class TicketSearchServiceImpl implements TicketSearchService {
+
+    // Deeper pages would keep every better hit in memory; nobody reads that far down a ranking
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final int rebuildBatchSize;
+    private final boolean rebuildOnStartup;
+
+    // Only one rebuild at a time; changes committed while it runs are applied to both indexes
+    private final Object rebuildLock = new Object();
+    private final Object changeLock = new Object();
+    private volatile TicketSearchIndex index = new TicketSearchIndex();
+    private List<TicketDTO> changesDuringRebuild;
+
+    public TicketSearchServiceImpl(TicketRepository ticketRepository,
+                                   UserRepository userRepository,
+                                   UserLookupCache userLookupCache,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager,
+                                   @Value("${ticketsystem.search.rebuild-batch-size:500}") int rebuildBatchSize,
+                                   @Value("${ticketsystem.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.ticketRepository = ticketRepository;
+        this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Searches tickets by words of their title, description and comments, best match first
+     * Employees only find their own tickets
+     * @param query Free text; tickets matching any of its words are returned
+     * @param page Zero-based page number, 0 if null
+     * @param size Hits per page, clamped like the ticket listing
+     * @param userId ID of the user making the request
+     * @return Page of hits with the total number of matches
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws InvalidTicketDataException if the query is blank or the page lies too deep
+     */
+    @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "search"})
+    public TicketSearchPageDTO search(String query, Integer page, Integer size, Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        if (query == null || query.isBlank()) {
+            throw new InvalidTicketDataException("Search query is required");
+        }
+        int pageSize = TicketServiceImpl.pageSize(size);
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new InvalidTicketDataException("Page must not be negative");
+        }
+        long offset = (long) pageNumber * pageSize;
+        if (offset + pageSize > MAX_RESULT_WINDOW) {
+            throw new InvalidTicketDataException(
+                    "Only the first " + MAX_RESULT_WINDOW + " hits can be paged through, refine the query");
+        }
+
+        TicketSearchIndex.Result result = index.search(query, user.isItSupport() ? null : user.id(),
+                (int) offset, pageSize);
+        List<Long> ticketIds = result.hits().stream().map(TicketSearchIndex.Hit::ticketId).toList();
+        Map<Long, TicketSummaryDTO> summaries = ticketIds.isEmpty() ? Map.of()
+                : ticketRepository.findSummariesByIdIn(ticketIds).stream()
+                .collect(Collectors.toMap(TicketSummaryDTO::getId, Function.identity()));
+
+        // Keeps the ranking; a ticket the database no longer has is left out
+        List<TicketSearchHitDTO> hits = new ArrayList<>(ticketIds.size());
+        for (TicketSearchIndex.Hit hit : result.hits()) {
+            TicketSummaryDTO summary = summaries.get(hit.ticketId());
+            if (summary != null) {
+                hits.add(new TicketSearchHitDTO(summary, hit.score()));
+            }
+        }
+        log.debug("Search by user ID: {} matched {} tickets", userId, result.totalHits());
+        return new TicketSearchPageDTO(hits, result.totalHits(), pageNumber, pageSize,
+                offset + pageSize < result.totalHits());
+    }
+
+    /**
+     * Rebuilds the search index from the database (requires IT Support role)
+     * @param userId ID of the user making the request
+     * @return Size of the new index
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    public SearchIndexStatsDTO rebuildIndex(Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized search index rebuild attempt by non-IT support user: {}", user.username());
+            throw new UnauthorizedAccessException("Operation not permitted for non-IT support users");
+        }
+        return rebuildIndex();
+    }
+
+    /**
+     * Reads every ticket with its comments in batches and swaps in a new index when done
+     * Searches keep using the old index in the meantime
+     * @return Size of the new index
+     */
+    @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "search_rebuild"})
+    public SearchIndexStatsDTO rebuildIndex() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            TicketSearchIndex rebuilt = new TicketSearchIndex();
+            synchronized (changeLock) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                Long afterId = Long.MIN_VALUE;
+                while (afterId != null) {
+                    Long after = afterId;
+                    afterId = readOnlyTransaction.execute(status -> indexBatch(rebuilt, after));
+                }
+                synchronized (changeLock) {
+                    changesDuringRebuild.forEach(ticket -> add(rebuilt, ticket));
+                    index = rebuilt;
+                }
+            } finally {
+                synchronized (changeLock) {
+                    changesDuringRebuild = null;
+                }
+            }
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Rebuilt search index of {} tickets and {} terms in {} ms",
+                    rebuilt.size(), rebuilt.termCount(), millis);
+            return new SearchIndexStatsDTO(rebuilt.size(), rebuilt.termCount(), rebuilt.postingCount(), millis);
+        }
+    }
+
+    /**
+     * Adds or replaces tickets in the index
+     * @param tickets Committed tickets with their comments
+     */
+    @Override
+    public void indexTickets(Collection<TicketDTO> tickets) {
+        synchronized (changeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(tickets);
+            }
+            TicketSearchIndex current = index;
+            tickets.forEach(ticket -> add(current, ticket));
+        }
+    }
+
+    /**
+     * Indexes created tickets and new comments once their transaction has committed
+     * @param event The committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketChanged(TicketChanged event) {
+        // A status change leaves the indexed text as it is
+        if (event.type() != TicketEventType.STATUS_CHANGED) {
+            indexTickets(List.of(event.ticket()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            rebuildIndex();
+        } catch (RuntimeException e) {
+            // The application stays usable; search only finds tickets changed from now on until a rebuild
+            log.error("Could not build the search index on startup", e);
+        }
+    }
+
+    private CachedUser validateAndGetUser(Long userId) {
+        return userLookupCache.get(userId, userRepository::findById)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    /**
+     * Indexes the next batch of tickets by ID
+     * @return ID of the last indexed ticket, or null when there are no more tickets
+     */
+    private Long indexBatch(TicketSearchIndex target, Long afterId) {
+        List<Long> ids = ticketRepository.findIdsAfter(afterId, PageRequest.of(0, rebuildBatchSize));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        for (Ticket ticket : ticketRepository.findByIdIn(ids)) {
+            target.index(ticket.getId(),
+                    ticket.getCreatedBy() == null ? null : ticket.getCreatedBy().getId(),
+                    ticket.getTitle(),
+                    ticket.getDescription(),
+                    ticket.getTicketComments().stream().map(TicketComment::getContent).toList());
+        }
+        // Indexed tickets are not needed anymore
+        entityManager.clear();
+        return ids.get(ids.size() - 1);
+    }
+
+    private static void add(TicketSearchIndex target, TicketDTO ticket) {
+        List<String> comments = ticket.getTicketComments() == null ? List.of()
+                : ticket.getTicketComments().stream().map(CommentDTO::getContent).toList();
+        target.index(ticket.getId(), ticket.getCreatedById(), ticket.getTitle(), ticket.getDescription(), comments);
+    }
+}
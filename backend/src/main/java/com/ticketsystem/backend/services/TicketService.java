@@ -1,7 +1,16 @@
 package com.ticketsystem.backend.services;
 
-import com.ticketsystem.backend.dtos.AuditLogDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeResultDTO;
+import com.ticketsystem.backend.dtos.TicketChangesDTO;
 import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketPageDTO;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.dtos.TicketStatsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusCountsDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryPageDTO;
 import com.ticketsystem.backend.enums.Status;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +24,9 @@ public interface TicketService {
     @Transactional
     TicketDTO updateStatus(Long ticketId, Status newStatus, Long userId);
 
+    @Transactional
+    BulkStatusChangeResultDTO updateStatuses(BulkStatusChangeRequest request, Long userId);
+
     @Transactional
     TicketDTO addComment(Long ticketId, String content, Long userId);
 
@@ -24,6 +36,15 @@ public interface TicketService {
     @Transactional(readOnly = true)
     List<TicketDTO> getAllTickets(Long userId);
 
+    @Transactional(readOnly = true)
+    TicketPageDTO getTicketPage(TicketPageRequest pageRequest, Long userId);
+
+    @Transactional(readOnly = true)
+    TicketSummaryPageDTO getTicketSummaryPage(TicketPageRequest pageRequest, Long userId);
+
+    @Transactional(readOnly = true)
+    TicketChangesDTO getTicketChanges(String cursor, Integer size, Long userId);
+
     @Transactional(readOnly = true)
     List<TicketDTO> getTicketsByStatus(Status status, Long userId);
 
@@ -31,5 +52,11 @@ public interface TicketService {
     TicketDTO getTicketById(Long ticketId, Long userId);
 
     @Transactional(readOnly = true)
-    List<AuditLogDTO> getAuditLogs(Long userId);
+    AuditLogPageDTO getAuditLogs(AuditLogPageRequest pageRequest, Long userId);
+
+    @Transactional(readOnly = true)
+    TicketStatsDTO getTicketStats(Long userId);
+
+    // Served from the in-memory counters, no query runs
+    TicketStatusCountsDTO getStatusCounts(Long userId);
 }
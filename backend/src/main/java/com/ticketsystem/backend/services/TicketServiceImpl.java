@@ -1,31 +1,64 @@
 package com.ticketsystem.backend.services;
 
-import com.ticketsystem.backend.dtos.AuditLogDTO;
+import com.ticketsystem.backend.config.MetricsConfig;
+import com.ticketsystem.backend.dtos.AuditLogPageDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeResultDTO;
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.TicketCountDTO;
+import com.ticketsystem.backend.dtos.TicketChangesDTO;
 import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketPageDTO;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.dtos.TicketStatsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusCountsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusChangeDTO;
+import com.ticketsystem.backend.dtos.TicketStatusDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryPageDTO;
 import com.ticketsystem.backend.entities.AuditLog;
 import com.ticketsystem.backend.entities.TicketComment;
 import com.ticketsystem.backend.entities.Ticket;
-import com.ticketsystem.backend.entities.User;
-import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
 import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.enums.StatusChangeOutcome;
+import com.ticketsystem.backend.enums.TicketEventType;
 import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
 import com.ticketsystem.backend.exceptions.TicketNotFoundException;
 import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
 import com.ticketsystem.backend.exceptions.UserNotFoundException;
 import com.ticketsystem.backend.mappers.AuditLogMapper;
 import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
 import com.ticketsystem.backend.repositories.TicketRepository;
 import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import com.ticketsystem.backend.services.TicketEventBroadcaster.TicketChanged;
+import com.ticketsystem.backend.util.PageCursor;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service implementation for ticket management operations
@@ -34,23 +67,45 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(timeout = TicketServiceImpl.WRITE_TIMEOUT_SECONDS)
 @Slf4j
 public class TicketServiceImpl implements TicketService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    // Keeps the IN lists of a bulk status change below Oracle's limit of 1000 expressions
+    static final int MAX_BULK_TICKETS = 500;
+
+    // Tickets still waiting for IT support, as counted on the dashboard
+    static final Set<Status> OPEN_STATUSES = EnumSet.of(Status.NEW, Status.IN_PROGRESS);
+
+    // Transactions that stamp lastUpdated are rolled back once they run this long
+    static final int WRITE_TIMEOUT_SECONDS = 20;
+
+    // lastUpdated is stamped before commit, so a watermark trails the clock by more than the write timeout
+    // and no transaction can commit a change older than the watermark
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(WRITE_TIMEOUT_SECONDS + 10);
+
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final UserLookupCache userLookupCache;
+    private final TicketStatusCounters ticketStatusCounters;
     private final TicketMapper ticketMapper;
     private final AuditLogMapper auditLogMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketEventBroadcaster ticketEventBroadcaster;
 
     /**
-     * Validates user existence and retrieves the user
+     * Validates user existence and retrieves the user's id, username and role
+     * Served from the user lookup cache, so most requests skip the database
      * @param userId ID of the user to validate
-     * @return The validated User entity
+     * @return The validated user
      * @throws UserNotFoundException if user doesn't exist
      */
-    private User validateAndGetUser(Long userId) {
-        return userRepository.findById(userId)
+    private CachedUser validateAndGetUser(Long userId) {
+        return userLookupCache.get(userId, userRepository::findById)
                 .orElseThrow(() -> new UserNotFoundException(userId));
     }
 
@@ -59,9 +114,9 @@ public class TicketServiceImpl implements TicketService {
      * @param user The user to validate
      * @throws UnauthorizedAccessException if user is not IT Support
      */
-    private void validateITSupport(User user) {
-        if (user.getRole() != Role.ROLE_IT_SUPPORT) {
-            log.warn("Unauthorized access attempt by non-IT support user: {}", user.getUsername());
+    private void validateITSupport(CachedUser user) {
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized access attempt by non-IT support user: {}", user.username());
             throw new UnauthorizedAccessException(
                     "Operation not permitted for non-IT support users"
             );
@@ -70,10 +125,11 @@ public class TicketServiceImpl implements TicketService {
 
     /**
      * Validates ticket data for required fields
+     * Shared with the bulk import, which applies the same rules to every row
      * @param ticketDTO The ticket data to validate
      * @throws InvalidTicketDataException if any required field is missing
      */
-    private void validateTicketData(TicketDTO ticketDTO) {
+    static void validateTicketData(TicketDTO ticketDTO) {
         List<String> errors = new ArrayList<>();
 
         if (ticketDTO.getTitle() == null || ticketDTO.getTitle().trim().isEmpty()) {
@@ -105,18 +161,20 @@ public class TicketServiceImpl implements TicketService {
      * @throws UserNotFoundException if user doesn't exist
      */
     @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "create"})
     public TicketDTO createTicket(TicketDTO ticketDTO, Long userId) {
         log.debug("Creating new ticket for user ID: {}", userId);
         validateTicketData(ticketDTO);
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
 
         Ticket ticket = ticketMapper.toEntity(ticketDTO);
         ticket.setStatus(Status.NEW);
         ticket.setCreatedDate(LocalDateTime.now());
         ticket.setLastUpdated(LocalDateTime.now());
-        ticket.setCreatedBy(user);
+        ticket.setCreatedBy(userRepository.getReferenceById(user.id()));
+        ticketStatusCounters.recordCreated(Status.NEW);
 
-        return ticketMapper.toDTO(ticketRepository.save(ticket));
+        return publish(TicketEventType.CREATED, ticketMapper.toDTO(ticketRepository.save(ticket)));
     }
 
     /**
@@ -130,29 +188,106 @@ public class TicketServiceImpl implements TicketService {
      * @throws UnauthorizedAccessException if user is not IT Support
      */
     @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "status_change"})
     public TicketDTO updateStatus(Long ticketId, Status newStatus, Long userId) {
         log.debug("Updating ticket status. Ticket ID: {}, New Status: {}", ticketId, newStatus);
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         validateITSupport(user);
 
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new TicketNotFoundException(ticketId));
 
         Status oldStatus = ticket.getStatus();
+        LocalDateTime now = LocalDateTime.now();
         ticket.setStatus(newStatus);
-        ticket.setLastUpdated(LocalDateTime.now());
+        ticket.setLastUpdated(now);
+
+        auditLogWriter.record(new AuditEvent(ticketId, "STATUS_CHANGE",
+                oldStatus.toString(), newStatus.toString(), user.id(), now));
+        ticketStatusCounters.recordStatusChange(oldStatus, newStatus);
 
-        // Create audit log entry for the status change
-        AuditLog auditLog = new AuditLog();
-        auditLog.setAction("STATUS_CHANGE");
-        auditLog.setOldValue(oldStatus.toString());
-        auditLog.setNewValue(newStatus.toString());
-        auditLog.setPerformedBy(user);
-        auditLog.setTicket(ticket);
-        auditLog.setCreatedDate(LocalDateTime.now());
-        ticket.getAuditLogs().add(auditLog);
-
-        return ticketMapper.toDTO(ticketRepository.save(ticket));
+        return publish(TicketEventType.STATUS_CHANGED, ticketMapper.toDTO(ticketRepository.save(ticket)));
+    }
+
+    /**
+     * Moves several tickets to the same status in one transaction (requires IT Support role)
+     * The tickets are changed with one bulk update and their audit entries handed to the audit writer together;
+     * tickets that already have the status are left alone, unknown IDs are reported as not found
+     * @param request IDs of the tickets and the new status
+     * @param userId ID of the user making the update
+     * @return Outcome per ticket in request order, duplicates listed once
+     * @throws InvalidTicketDataException if the status or ticket IDs are missing or too many tickets are given
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "bulk_status_change"})
+    public BulkStatusChangeResultDTO updateStatuses(BulkStatusChangeRequest request, Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        validateITSupport(user);
+
+        Status newStatus = request.getNewStatus();
+        if (newStatus == null) {
+            throw new InvalidTicketDataException("New status is required");
+        }
+        Set<Long> ticketIds = new LinkedHashSet<>();
+        if (request.getTicketIds() != null) {
+            request.getTicketIds().stream().filter(Objects::nonNull).forEach(ticketIds::add);
+        }
+        if (ticketIds.isEmpty()) {
+            throw new InvalidTicketDataException("At least one ticket ID is required");
+        }
+        if (ticketIds.size() > MAX_BULK_TICKETS) {
+            throw new InvalidTicketDataException("At most " + MAX_BULK_TICKETS + " tickets can be changed at once");
+        }
+        log.debug("Updating status of {} tickets to {}", ticketIds.size(), newStatus);
+
+        Map<Long, Status> oldStatuses = new HashMap<>();
+        for (TicketStatusDTO ticket : ticketRepository.findStatusesForUpdate(ticketIds)) {
+            oldStatuses.put(ticket.getId(), ticket.getStatus());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TicketStatusChangeDTO> results = new ArrayList<>(ticketIds.size());
+        List<Long> changedIds = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            Status oldStatus = oldStatuses.get(ticketId);
+            StatusChangeOutcome outcome;
+            if (oldStatus == null) {
+                outcome = StatusChangeOutcome.NOT_FOUND;
+            } else if (oldStatus == newStatus) {
+                outcome = StatusChangeOutcome.UNCHANGED;
+            } else {
+                outcome = StatusChangeOutcome.UPDATED;
+                changedIds.add(ticketId);
+            }
+            results.add(new TicketStatusChangeDTO(ticketId, outcome, oldStatus));
+        }
+
+        if (!changedIds.isEmpty()) {
+            ticketRepository.updateStatus(changedIds, newStatus, now);
+
+            Map<Status, Long> deltas = new EnumMap<>(Status.class);
+            changedIds.forEach(ticketId -> deltas.merge(oldStatuses.get(ticketId), -1L, Long::sum));
+            deltas.merge(newStatus, (long) changedIds.size(), Long::sum);
+            ticketStatusCounters.record(deltas);
+
+            List<AuditEvent> auditEvents = new ArrayList<>(changedIds.size());
+            for (Long ticketId : changedIds) {
+                auditEvents.add(new AuditEvent(ticketId, "STATUS_CHANGE",
+                        oldStatuses.get(ticketId).toString(), newStatus.toString(), user.id(), now));
+            }
+            auditLogWriter.record(auditEvents);
+
+            // Connected clients replace the whole ticket, so the events carry the reloaded tickets
+            // Without subscribers nobody would receive them; clients connecting later catch up through the changes feed
+            if (ticketEventBroadcaster.subscriberCount() > 0) {
+                ticketMapper.toDTOList(ticketRepository.findByIdIn(changedIds))
+                        .forEach(ticketDTO -> publish(TicketEventType.STATUS_CHANGED, ticketDTO));
+            }
+        }
+
+        return new BulkStatusChangeResultDTO(newStatus, now, changedIds.size(), results);
     }
 
     /**
@@ -167,48 +302,40 @@ public class TicketServiceImpl implements TicketService {
      * @throws UnauthorizedAccessException if user is not IT Support
      */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Transactional(isolation = Isolation.READ_COMMITTED, timeout = WRITE_TIMEOUT_SECONDS)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "comment"})
     public TicketDTO addComment(Long ticketId, String content, Long userId) {
         log.debug("Adding Comment to ticket ID: {}", ticketId);
         if (content == null || content.trim().isEmpty()) {
             throw new InvalidTicketDataException("Comment content cannot be empty");
         }
 
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         validateITSupport(user);
 
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new TicketNotFoundException(ticketId));
 
+        LocalDateTime now = LocalDateTime.now();
+
         // Create and add the comment
         TicketComment ticketComment = new TicketComment();
         ticketComment.setContent(content.trim());
-        ticketComment.setCreatedBy(user);
-        ticketComment.setCreatedDate(LocalDateTime.now());
+        ticketComment.setCreatedBy(userRepository.getReferenceById(user.id()));
+        ticketComment.setCreatedDate(now);
         ticketComment.setTicket(ticket);
         ticket.getTicketComments().add(ticketComment);
-
-        // Create audit log entry for the comment
-        AuditLog auditLog = new AuditLog();
-        auditLog.setAction("COMMENT_ADDED");
-        auditLog.setNewValue("TEST MESSAGE " + System.currentTimeMillis());
+        ticket.setLastUpdated(now);
 
         // Display the actual comment content in the audit log
         String truncatedContent = content.length() > 100 ?
                 content.substring(0, 97) + "..." :
                 content;
-        auditLog.setNewValue("\"" + truncatedContent + "\" - by " + user.getUsername());
-
-        auditLog.setPerformedBy(user);
-        auditLog.setTicket(ticket);
-        auditLog.setCreatedDate(LocalDateTime.now());
-        ticket.getAuditLogs().add(auditLog);
-
-        ticket.setLastUpdated(LocalDateTime.now());
-        String logMessage = "\"" + truncatedContent + "\" - by " + user.getUsername();
-        auditLog.setNewValue(logMessage);
+        String logMessage = "\"" + truncatedContent + "\" - by " + user.username();
         log.debug("Setting audit log new value to: {}", logMessage);
-        return ticketMapper.toDTO(ticketRepository.save(ticket));
+        auditLogWriter.record(new AuditEvent(ticketId, "COMMENT_ADDED", null, logMessage, user.id(), now));
+
+        return publish(TicketEventType.COMMENT_ADDED, ticketMapper.toDTO(ticketRepository.save(ticket)));
     }
 
     /**
@@ -219,9 +346,10 @@ public class TicketServiceImpl implements TicketService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "list"})
     public List<TicketDTO> getUserTickets(Long userId) {
         log.debug("Fetching tickets for user ID: {}", userId);
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         return ticketMapper.toDTOList(ticketRepository.findByCreatedBy_Id(userId));
     }
 
@@ -234,14 +362,160 @@ public class TicketServiceImpl implements TicketService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "list"})
     public List<TicketDTO> getAllTickets(Long userId) {
         log.debug("Fetching all tickets (IT Support access)");
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         validateITSupport(user);
 
         return ticketMapper.toDTOList(ticketRepository.findAll());
     }
 
+    /**
+     * Retrieves one keyset page of tickets ordered by most recently updated
+     * Employees are always restricted to their own tickets
+     * @param pageRequest Filters, cursor and page size
+     * @param userId ID of the user making the request
+     * @return Page of ticket DTOs with the cursor for the next page
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws InvalidTicketDataException if the cursor is malformed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "list"})
+    public TicketPageDTO getTicketPage(TicketPageRequest pageRequest, Long userId) {
+        log.debug("Fetching ticket page for user ID: {}", userId);
+        CachedUser user = validateAndGetUser(userId);
+
+        int size = pageSize(pageRequest.getSize());
+        PageCursor after = PageCursor.decode(pageRequest.getCursor());
+
+        // Fetch one extra row to find out whether another page follows
+        List<Ticket> tickets = ticketRepository.findPage(
+                pageRequest.getStatus(),
+                pageRequest.getPriority(),
+                pageRequest.getCategory(),
+                creatorFilter(user, pageRequest),
+                pageRequest.getCreatedFrom(),
+                pageRequest.getCreatedTo(),
+                after.timestamp(),
+                after.id(),
+                PageRequest.of(0, size + 1));
+
+        boolean hasMore = tickets.size() > size;
+        String nextCursor = null;
+        if (hasMore) {
+            tickets = tickets.subList(0, size);
+            Ticket last = tickets.get(tickets.size() - 1);
+            nextCursor = new PageCursor(last.getLastUpdated(), last.getId()).encode();
+        }
+
+        return new TicketPageDTO(ticketMapper.toDTOList(tickets), nextCursor, hasMore);
+    }
+
+    /**
+     * Retrieves one keyset page of ticket summaries for list views
+     * Only the list columns are selected, description and comments are never loaded
+     * @param pageRequest Filters, cursor and page size
+     * @param userId ID of the user making the request
+     * @return Page of ticket summaries with the cursor for the next page
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws InvalidTicketDataException if the cursor is malformed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "list"})
+    public TicketSummaryPageDTO getTicketSummaryPage(TicketPageRequest pageRequest, Long userId) {
+        log.debug("Fetching ticket summary page for user ID: {}", userId);
+        CachedUser user = validateAndGetUser(userId);
+
+        int size = pageSize(pageRequest.getSize());
+        PageCursor after = PageCursor.decode(pageRequest.getCursor());
+
+        List<TicketSummaryDTO> tickets = ticketRepository.findSummaryPage(
+                pageRequest.getStatus(),
+                pageRequest.getPriority(),
+                pageRequest.getCategory(),
+                creatorFilter(user, pageRequest),
+                pageRequest.getCreatedFrom(),
+                pageRequest.getCreatedTo(),
+                after.timestamp(),
+                after.id(),
+                PageRequest.of(0, size + 1));
+
+        boolean hasMore = tickets.size() > size;
+        String nextCursor = null;
+        if (hasMore) {
+            tickets = tickets.subList(0, size);
+            TicketSummaryDTO last = tickets.get(tickets.size() - 1);
+            nextCursor = new PageCursor(last.getLastUpdated(), last.getId()).encode();
+        }
+
+        return new TicketSummaryPageDTO(tickets, nextCursor, hasMore);
+    }
+
+    /**
+     * Retrieves the tickets modified after a cursor, oldest change first, for incremental refreshes
+     * Employees only receive their own tickets. The cursor only moves past changes older than
+     * SYNC_OVERLAP, which every transaction has committed or given up on by then (see WRITE_TIMEOUT_SECONDS);
+     * newer changes are sent again with the next call, clients merge them by ID
+     * @param cursor nextCursor of the previous call, or null to start from the oldest change
+     * @param size Page size, defaults to DEFAULT_PAGE_SIZE and is capped at MAX_PAGE_SIZE
+     * @param userId ID of the user making the request
+     * @return Changed tickets, the cursor for the next call and whether to call again right away
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws InvalidTicketDataException if the cursor is malformed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "changes"})
+    public TicketChangesDTO getTicketChanges(String cursor, Integer size, Long userId) {
+        log.debug("Fetching ticket changes after cursor {} for user ID: {}", cursor, userId);
+        CachedUser user = validateAndGetUser(userId);
+
+        int pageSize = pageSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+        // Taken before the query so nothing committed while it runs can fall behind the cursor
+        LocalDateTime settled = LocalDateTime.now().minus(SYNC_OVERLAP);
+
+        // Fetch one extra row to find out whether another page follows
+        List<Ticket> tickets = ticketRepository.findChangedSince(
+                user.isItSupport() ? null : user.id(),
+                after.timestamp(),
+                after.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = tickets.size() > pageSize;
+        if (hasMore) {
+            tickets = tickets.subList(0, pageSize);
+        }
+        PageCursor next = after;
+        for (Ticket ticket : tickets) {
+            if (!ticket.getLastUpdated().isBefore(settled)) {
+                // Recent changes may still be joined by older ones, so the next call starts before them
+                hasMore = false;
+                break;
+            }
+            next = new PageCursor(ticket.getLastUpdated(), ticket.getId());
+        }
+
+        String nextCursor = next == PageCursor.START ? null : next.encode();
+        return new TicketChangesDTO(ticketMapper.toDTOList(tickets), nextCursor, hasMore);
+    }
+
+    /**
+     * Resolves the creator filter for a page request
+     * Non IT support users only ever see tickets they created
+     * @param user The user making the request
+     * @param pageRequest The requested filters
+     * @return Creator ID to filter on, or null for all creators
+     */
+    private Long creatorFilter(CachedUser user, TicketPageRequest pageRequest) {
+        return user.isItSupport()
+                ? pageRequest.getCreatedById()
+                : user.id();
+    }
+
     /**
      * Retrieves tickets filtered by status
      * @param status The status to filter by
@@ -251,6 +525,7 @@ public class TicketServiceImpl implements TicketService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "list"})
     public List<TicketDTO> getTicketsByStatus(Status status, Long userId) {
         log.debug("Fetching tickets by status: {}", status);
         validateAndGetUser(userId);
@@ -268,14 +543,15 @@ public class TicketServiceImpl implements TicketService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "detail"})
     public TicketDTO getTicketById(Long ticketId, Long userId) {
         log.debug("Fetching ticket by ID: {}", ticketId);
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new TicketNotFoundException(ticketId));
 
         // Validate that the user has permission to view this ticket
-        if (user.getRole() != Role.ROLE_IT_SUPPORT &&
+        if (!user.isItSupport() &&
                 !ticket.getCreatedBy().getId().equals(userId)) {
             log.warn("Unauthorized access attempt to ticket ID: {} by user ID: {}", ticketId, userId);
             throw new UnauthorizedAccessException(
@@ -287,22 +563,130 @@ public class TicketServiceImpl implements TicketService {
     }
 
     /**
-     * Retrieves all audit logs in the system (requires IT Support role)
+     * Retrieves one keyset page of audit logs, newest first (requires IT Support role)
+     * @param pageRequest Filters, cursor and page size
      * @param userId ID of the user making the request
-     * @return List of audit log DTOs
+     * @return Page of audit log DTOs with the cursor for the next page
      * @throws UserNotFoundException if user doesn't exist
      * @throws UnauthorizedAccessException if user is not IT Support
+     * @throws InvalidTicketDataException if the cursor is malformed
      */
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLogDTO> getAuditLogs(Long userId) {
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "audit"})
+    public AuditLogPageDTO getAuditLogs(AuditLogPageRequest pageRequest, Long userId) {
         log.debug("Fetching audit logs");
-        User user = validateAndGetUser(userId);
+        CachedUser user = validateAndGetUser(userId);
         validateITSupport(user);
 
-        return ticketRepository.findAll().stream()
-                .flatMap(ticket -> ticket.getAuditLogs().stream())
-                .map(auditLogMapper::toDTO)
-                .collect(Collectors.toList());
+        int size = pageSize(pageRequest.getSize());
+        PageCursor before = PageCursor.decode(pageRequest.getCursor());
+
+        // Fetch one extra row to find out whether another page follows
+        List<AuditLog> auditLogs = auditLogRepository.findPage(
+                pageRequest.getTicketId(),
+                pageRequest.getPerformedById(),
+                pageRequest.getAction(),
+                pageRequest.getFrom(),
+                pageRequest.getTo(),
+                before.timestamp(),
+                before.id(),
+                PageRequest.of(0, size + 1));
+
+        boolean hasMore = auditLogs.size() > size;
+        String nextCursor = null;
+        if (hasMore) {
+            auditLogs = auditLogs.subList(0, size);
+            AuditLog last = auditLogs.get(auditLogs.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedDate(), last.getId()).encode();
+        }
+
+        return new AuditLogPageDTO(auditLogMapper.toDTOList(auditLogs), nextCursor, hasMore);
+    }
+
+    /**
+     * Aggregates ticket counts for the dashboard (requires IT Support role)
+     * Counts per status come from the ticket status counters; priority, category and age are computed by
+     * two grouped queries that read the IDX_TICKET_STATS index instead of the tickets
+     * @param userId ID of the user making the request
+     * @return Counts by status, priority and category, and open tickets by age
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.TICKET_OPERATIONS, extraTags = {"operation", "stats"})
+    public TicketStatsDTO getTicketStats(Long userId) {
+        log.debug("Computing ticket statistics");
+        CachedUser user = validateAndGetUser(userId);
+        validateITSupport(user);
+
+        TicketStatsDTO stats = new TicketStatsDTO();
+        stats.getByStatus().putAll(ticketStatusCounters.counts());
+        stats.setOpenCount(OPEN_STATUSES.stream().mapToLong(ticketStatusCounters::count).sum());
+        // Every value is listed, so the dashboard shows zeros instead of missing entries
+        Arrays.stream(Priority.values()).forEach(priority -> stats.getByPriority().put(priority, 0L));
+        Arrays.stream(Category.values()).forEach(category -> stats.getByCategory().put(category, 0L));
+
+        for (TicketCountDTO count : ticketRepository.countByStatusPriorityAndCategory()) {
+            stats.setTotalCount(stats.getTotalCount() + count.getCount());
+            if (count.getPriority() != null) {
+                stats.getByPriority().merge(count.getPriority(), count.getCount(), Long::sum);
+            }
+            if (count.getCategory() != null) {
+                stats.getByCategory().merge(count.getCategory(), count.getCount(), Long::sum);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        stats.setOpenTicketAge(ticketRepository.countByAge(OPEN_STATUSES,
+                now.minusDays(1), now.minusDays(7), now.minusDays(30)));
+        stats.setGeneratedAt(now);
+        return stats;
+    }
+
+    /**
+     * Counts tickets per status for queue monitoring (requires IT Support role)
+     * Read from counters kept in memory, so polling it never queries the TICKET table
+     * @param userId ID of the user making the request
+     * @return Tickets per status, open tickets and when the counters were last checked against the database
+     * @throws UserNotFoundException if user doesn't exist
+     * @throws UnauthorizedAccessException if user is not IT Support
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TicketStatusCountsDTO getStatusCounts(Long userId) {
+        CachedUser user = validateAndGetUser(userId);
+        validateITSupport(user);
+
+        TicketStatusCountsDTO counts = new TicketStatusCountsDTO();
+        counts.setByStatus(ticketStatusCounters.counts());
+        counts.setOpenCount(OPEN_STATUSES.stream().mapToLong(ticketStatusCounters::count).sum());
+        counts.setLastCheckedAt(ticketStatusCounters.lastCheckedAt());
+        return counts;
+    }
+
+    /**
+     * Announces a ticket change; subscribers are only notified once the transaction commits
+     * @param type The kind of change
+     * @param ticketDTO The ticket as it was saved
+     * @return The same ticket DTO
+     */
+    private TicketDTO publish(TicketEventType type, TicketDTO ticketDTO) {
+        eventPublisher.publishEvent(new TicketChanged(type, ticketDTO));
+        return ticketDTO;
+    }
+
+    /**
+     * Clamps a requested page size to the allowed range
+     * Shared with the ticket search, which pages its hits the same way
+     * @param requested The size sent by the client, may be null
+     * @return Page size between 1 and MAX_PAGE_SIZE
+     */
+    static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
     }
-}
\ No newline at end of file
+}
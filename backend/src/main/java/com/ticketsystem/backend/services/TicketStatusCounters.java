@@ -0,0 +1,228 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.TicketCountDTO;
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of tickets per status, kept in memory so queue depths are read without touching the TICKET table
+ * Loaded from the database on startup, moved by every committed ticket creation and status change,
+ * and compared with the database by a periodic consistency check that corrects any drift
+ */
+@Component
+@Slf4j
+public class TicketStatusCounters {
+
+    /**
+     * Gauge of tickets per status, tagged by status
+     */
+    public static final String TICKETS_BY_STATUS = "ticketsystem.tickets";
+
+    /**
+     * Counter of statuses the consistency check found out of line with the database
+     */
+    public static final String CORRECTIONS = "ticketsystem.tickets.counter.corrections";
+
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Status, LongAdder> counters = new EnumMap<>(Status.class);
+    // Deltas registered by transactions that have not completed yet, per status
+    private final Map<Status, AtomicInteger> pending = new EnumMap<>(Status.class);
+    private final Counter corrections;
+    private volatile LocalDateTime lastCheckedAt;
+
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-counters");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TicketStatusCounters(TicketRepository ticketRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${ticketsystem.ticket-counters.check-interval:PT5M}") Duration checkInterval) {
+        this.ticketRepository = ticketRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (Status status : Status.values()) {
+            LongAdder counter = new LongAdder();
+            counters.put(status, counter);
+            pending.put(status, new AtomicInteger());
+            Gauge.builder(TICKETS_BY_STATUS, counter, LongAdder::sum)
+                    .description("Tickets per status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        this.corrections = Counter.builder(CORRECTIONS)
+                .description("Ticket status counts corrected by the consistency check")
+                .register(meterRegistry);
+        // Zero or negative turns the periodic check off, the startup load still runs
+        if (!checkInterval.isNegative() && !checkInterval.isZero()) {
+            checker.scheduleWithFixedDelay(this::checkQuietly,
+                    checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Counts a new ticket
+     * @param status Status the ticket was created with
+     */
+    public void recordCreated(Status status) {
+        record(Map.of(status, 1L));
+    }
+
+    /**
+     * Moves a ticket from one status to another; nothing happens if the status is unchanged
+     * @param oldStatus Status before the change
+     * @param newStatus Status after the change
+     */
+    public void recordStatusChange(Status oldStatus, Status newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        Map<Status, Long> deltas = new EnumMap<>(Status.class);
+        deltas.put(oldStatus, -1L);
+        deltas.put(newStatus, 1L);
+        record(deltas);
+    }
+
+    /**
+     * Adds to the counters once the current transaction commits, or right away outside a transaction
+     * A rolled back transaction leaves the counters untouched. Until the transaction completes its
+     * statuses count as pending, so the consistency check leaves them alone
+     * @param deltas Change of the ticket count per status
+     */
+    public void record(Map<Status, Long> deltas) {
+        Map<Status, Long> copy = Map.copyOf(deltas);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            copy.keySet().forEach(status -> pending.get(status).incrementAndGet());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(copy);
+                }
+
+                // Runs after afterCommit, so a status stops being pending only once its delta is applied
+                @Override
+                public void afterCompletion(int status) {
+                    copy.keySet().forEach(key -> pending.get(key).decrementAndGet());
+                }
+            });
+        } else {
+            apply(copy);
+        }
+    }
+
+    /**
+     * @param status The status to count
+     * @return Number of tickets in the status
+     */
+    public long count(Status status) {
+        return counters.get(status).sum();
+    }
+
+    /**
+     * @return Number of tickets per status, every status listed
+     */
+    public Map<Status, Long> counts() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        counters.forEach((status, counter) -> counts.put(status, counter.sum()));
+        return counts;
+    }
+
+    /**
+     * @return When the counters were last compared with the database, null before the first check
+     */
+    public LocalDateTime lastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    /**
+     * Compares the counters with a grouped count of the TICKET table and corrects statuses that drifted
+     * A status that changed while the count ran, or that a transaction may have committed without its
+     * delta being applied yet, is left for the next check, since the count may or may not include that change
+     * @return Number of corrected statuses
+     */
+    public synchronized int check() {
+        Map<Status, Long> before = counts();
+        List<TicketCountDTO> rows = readOnlyTransaction.execute(status ->
+                ticketRepository.countByStatusPriorityAndCategory());
+        // Read before the counters: a transaction counted above is either still pending here or applied below
+        Map<Status, Integer> inFlight = new EnumMap<>(Status.class);
+        pending.forEach((status, count) -> inFlight.put(status, count.get()));
+        Map<Status, Long> after = counts();
+
+        Map<Status, Long> actual = new EnumMap<>(Status.class);
+        for (TicketCountDTO row : rows) {
+            if (row.getStatus() != null) {
+                actual.merge(row.getStatus(), row.getCount(), Long::sum);
+            }
+        }
+
+        int corrected = 0;
+        for (Status status : Status.values()) {
+            long counted = after.get(status);
+            long expected = actual.getOrDefault(status, 0L);
+            if (!before.get(status).equals(counted) || inFlight.get(status) > 0 || counted == expected) {
+                continue;
+            }
+            // Skipped before the first check, when every counter still starts from zero
+            if (lastCheckedAt != null) {
+                log.warn("Ticket counter for {} was {} but the database has {}, correcting", status, counted, expected);
+                corrections.increment();
+            }
+            counters.get(status).add(expected - counted);
+            corrected++;
+        }
+        lastCheckedAt = LocalDateTime.now();
+        return corrected;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        checkQuietly();
+        log.info("Loaded ticket counters: {}", counts());
+    }
+
+    private void apply(Map<Status, Long> deltas) {
+        deltas.forEach((status, delta) -> counters.get(status).add(delta));
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            // A failed check must not stop the schedule; the counters keep following committed changes
+            log.error("Could not check ticket counters against the database", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        checker.shutdownNow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ticketsystem.backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.entities.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, time-evicting cache of the user attributes needed for authorization checks
+ * Only id, username and role are kept, never the entity or its password hash
+ * Hits, misses, evictions and size are exported as the cache_* meters tagged cache=users
+ */
+@Component
+@Slf4j
+public class UserLookupCache implements MeterBinder {
+
+    private final Cache<Long, CachedUser> cache;
+
+    public UserLookupCache(@Value("${ticketsystem.user-cache.max-size:10000}") long maxSize,
+                           @Value("${ticketsystem.user-cache.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "users");
+    }
+
+    /**
+     * Returns the cached user, loading it on a miss
+     * Missing users are not cached, so a later registration is seen immediately
+     * @param userId ID of the user to look up
+     * @param loader Loads the user from the database on a miss
+     * @return The cached user, or empty if the loader found none
+     */
+    public Optional<CachedUser> get(Long userId, Function<Long, Optional<User>> loader) {
+        return Optional.ofNullable(cache.get(userId, id -> loader.apply(id)
+                .map(user -> new CachedUser(user.getId(), user.getUsername(), user.getRole()))
+                .orElse(null)));
+    }
+
+    /**
+     * Returns the cached users for a set of IDs, loading all misses in one call
+     * IDs with no matching user are left out of the result and not cached
+     * @param userIds IDs of the users to look up
+     * @param loader Loads the missing users from the database
+     * @return Cached users keyed by ID
+     */
+    public Map<Long, CachedUser> getAll(Collection<Long> userIds, Function<Set<Long>, List<User>> loader) {
+        return cache.getAll(userIds, missing -> loader.apply(Set.copyOf(missing)).stream()
+                .collect(Collectors.toMap(
+                        User::getId,
+                        user -> new CachedUser(user.getId(), user.getUsername(), user.getRole()))));
+    }
+
+    /**
+     * Drops a user from the cache
+     * Inside a transaction the eviction is repeated after commit, so a concurrent
+     * reader cannot re-cache the row as it was before the change
+     * @param userId ID of the user to evict
+     */
+    public void evict(Long userId) {
+        log.debug("Evicting user ID {} from lookup cache", userId);
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return Hit, miss and eviction counters since startup
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return Approximate number of cached users
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -1,9 +1,12 @@
 package com.ticketsystem.backend.services;
 
+import com.ticketsystem.backend.dtos.CacheStatsDTO;
+import com.ticketsystem.backend.dtos.CachedUser;
 import com.ticketsystem.backend.entities.User;
 import com.ticketsystem.backend.enums.Role;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
@@ -13,6 +16,12 @@ public interface UserService {
     @Transactional(readOnly = true)
     User findById(Long id);
 
+    @Transactional(readOnly = true)
+    CachedUser findCachedById(Long id);
+
+    @Transactional(readOnly = true)
+    List<CachedUser> findCachedByIds(Collection<Long> ids);
+
     @Transactional(readOnly = true)
     List<User> getAllUsers();
 
@@ -21,4 +30,7 @@ public interface UserService {
 
     @Transactional
     void deleteUser(Long id);
+
+    @Transactional(readOnly = true)
+    CacheStatsDTO getCacheStats(Long userId);
 }
@@ -1,8 +1,12 @@
 package com.ticketsystem.backend.services;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ticketsystem.backend.dtos.CacheStatsDTO;
+import com.ticketsystem.backend.dtos.CachedUser;
 import com.ticketsystem.backend.entities.User;
 import com.ticketsystem.backend.enums.Role;
 import com.ticketsystem.backend.exceptions.InvalidCredentialsException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
 import com.ticketsystem.backend.exceptions.UserNotFoundException;
 import com.ticketsystem.backend.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +15,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service implementation for user management operations
@@ -23,8 +31,12 @@ import java.util.List;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    // Keeps IN lists well below database bind limits
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserLookupCache userLookupCache;
 
     /**
      * Authenticates a user with username and password
@@ -61,6 +73,51 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    /**
+     * Finds a user's id, username and role through the user lookup cache
+     * @param id The ID of the user to find
+     * @return The cached user
+     * @throws UserNotFoundException if user doesn't exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CachedUser findCachedById(Long id) {
+        return userLookupCache.get(id, userRepository::findById)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
+    /**
+     * Finds several users' id, username and role through the user lookup cache
+     * Cache misses are loaded with as few queries as possible
+     * @param ids The IDs of the users to find
+     * @return The cached users in the order requested, unknown IDs are skipped
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CachedUser> findCachedByIds(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, CachedUser> users = userLookupCache.getAll(distinctIds, this::loadUsers);
+        return distinctIds.stream()
+                .filter(users::containsKey)
+                .map(users::get)
+                .toList();
+    }
+
+    /**
+     * Loads users by ID in chunks of LOOKUP_CHUNK_SIZE
+     * @param ids The IDs to load
+     * @return The users found
+     */
+    private List<User> loadUsers(Set<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<User> users = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, idList.size());
+            users.addAll(userRepository.findAllById(idList.subList(from, to)));
+        }
+        return users;
+    }
+
     /**
      * Retrieves all users in the system
      * @return List of all User entities
@@ -90,7 +147,9 @@ public class UserServiceImpl implements UserService {
         user.setPassword(passwordEncoder.encode(password));
         user.setRole(role);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userLookupCache.evict(savedUser.getId());
+        return savedUser;
     }
 
     /**
@@ -105,5 +164,31 @@ public class UserServiceImpl implements UserService {
         }
         log.debug("Deleting user with ID: {}", id);
         userRepository.deleteById(id);
+        userLookupCache.evict(id);
+    }
+
+    /**
+     * Reports hit and miss counters of the user lookup cache (requires IT Support role)
+     * @param userId ID of the user making the request
+     * @return Cache size and counters since startup
+     * @throws UserNotFoundException if the requesting user doesn't exist
+     * @throws UnauthorizedAccessException if the requesting user is not IT support
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CacheStatsDTO getCacheStats(Long userId) {
+        CachedUser user = findCachedById(userId);
+        if (!user.isItSupport()) {
+            log.warn("Unauthorized access attempt by non-IT support user: {}", user.username());
+            throw new UnauthorizedAccessException("Operation not permitted for non-IT support users");
+        }
+
+        CacheStats stats = userLookupCache.stats();
+        return new CacheStatsDTO(
+                userLookupCache.size(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
     }
-}
\ No newline at end of file
+}
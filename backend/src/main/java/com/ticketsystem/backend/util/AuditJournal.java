@@ -0,0 +1,438 @@
+package com.ticketsystem.backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of timestamped records in memory-mapped segment files
+ *
+ * A record is a 16 byte header (payload length, CRC32C of timestamp and payload, timestamp) followed by
+ * the payload. Records go to the active segment until it is full, then a new segment is started; a sealed
+ * segment keeps its sparse time index, one entry every few kilobytes, in a file next to it. Timestamps
+ * never decrease, a record older than the previous one is stored with the previous timestamp, so range
+ * reads only walk the records between two index entries before they reach the range.
+ *
+ * On open the active segment is read up to its first incomplete or corrupt record, which is where appends
+ * continue. Reads hand out read-only views of the mapped files, nothing is copied.
+ * Appends are serialized, reads may run from any thread alongside them
+ */
+public final class AuditJournal implements Closeable {
+
+    static final int HEADER_SIZE = 16;
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * Receives the records of a range read
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+
+        /**
+         * @param timestamp Timestamp the record was stored with
+         * @param payload Read-only view of the payload, only valid while the journal is open
+         * @return Whether to continue with the next record
+         */
+        boolean visit(long timestamp, ByteBuffer payload);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private Segment active;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private volatile boolean closed;
+
+    private AuditJournal(Path directory, int segmentSize, int indexInterval) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+    }
+
+    /**
+     * Opens the journal in a directory, creating it if needed
+     * @param directory Directory of the segment files
+     * @param segmentSize Size of new segment files in bytes, also the largest record
+     * @param indexInterval Bytes between two entries of a segment's time index
+     * @return The opened journal, positioned after its last intact record
+     * @throws IOException if the files cannot be read or created
+     */
+    public static AuditJournal open(Path directory, int segmentSize, int indexInterval) throws IOException {
+        if (segmentSize <= HEADER_SIZE || indexInterval <= 0) {
+            throw new IllegalArgumentException("Segment size must exceed " + HEADER_SIZE + " bytes and the index interval be positive");
+        }
+        Files.createDirectories(directory);
+        AuditJournal journal = new AuditJournal(directory, segmentSize, indexInterval);
+
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(numbers::add);
+        }
+        for (int i = 0; i < numbers.size(); i++) {
+            boolean last = i == numbers.size() - 1;
+            Segment segment = last ? journal.openActive(numbers.get(i)) : journal.openSealed(numbers.get(i));
+            journal.segments.add(segment);
+            if (segment.limit > 0) {
+                journal.lastTimestamp = segment.lastTimestamp;
+            }
+        }
+        if (numbers.isEmpty()) {
+            journal.segments.add(journal.create(0));
+        }
+        journal.active = journal.segments.get(journal.segments.size() - 1);
+        return journal;
+    }
+
+    /**
+     * Appends a record
+     * @param timestamp Timestamp of the record; raised to the previous record's if it is older
+     * @param payload The payload, from its position to its limit; the buffer itself is not changed
+     * @return The timestamp the record was stored with
+     * @throws IllegalArgumentException if the payload is empty or larger than a segment
+     * @throws IOException if a new segment cannot be created
+     */
+    public synchronized long append(long timestamp, ByteBuffer payload) throws IOException {
+        ensureOpen();
+        int length = payload.remaining();
+        if (length == 0 || length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Record payload of " + length + " bytes does not fit a segment");
+        }
+        int position = active.limit;
+        if (position + HEADER_SIZE + length > active.buffer.capacity()) {
+            rotate();
+            position = 0;
+        }
+        long stored = Math.max(timestamp, lastTimestamp);
+
+        ByteBuffer target = active.buffer.duplicate();
+        target.putLong(position + 8, stored);
+        target.put(position + HEADER_SIZE, payload, payload.position(), length);
+        CRC32C crc = new CRC32C();
+        crc.update(target.slice(position + 8, 8 + length));
+        target.putInt(position + 4, (int) crc.getValue());
+        target.putInt(position, length);
+
+        active.appended(stored, position, position + HEADER_SIZE + length, indexInterval);
+        lastTimestamp = stored;
+        return stored;
+    }
+
+    /**
+     * Reads the records with timestamps in a range, oldest first
+     * Records appended while the read runs may or may not be included
+     * @param from Lowest timestamp, inclusive
+     * @param to Highest timestamp, inclusive
+     * @param visitor Receives each record until it returns false
+     * @return Number of visited records
+     * @throws IllegalStateException if a record fails its CRC check
+     */
+    public long scan(long from, long to, RecordVisitor visitor) {
+        ensureOpen();
+        long visited = 0;
+        for (Segment segment : segments) {
+            // The limit is read first, the timestamps read after it cover at least the records below it
+            int limit = segment.limit;
+            if (limit == 0 || segment.lastTimestamp < from) {
+                continue;
+            }
+            if (segment.firstTimestamp > to) {
+                break;
+            }
+            ByteBuffer view = segment.buffer.asReadOnlyBuffer();
+            CRC32C crc = new CRC32C();
+            int position = segment.seek(from, limit);
+            while (position < limit) {
+                int length = view.getInt(position);
+                long timestamp = view.getLong(position + 8);
+                if (timestamp > to) {
+                    return visited;
+                }
+                if (timestamp >= from) {
+                    crc.reset();
+                    crc.update(view.slice(position + 8, 8 + length));
+                    if ((int) crc.getValue() != view.getInt(position + 4)) {
+                        throw new IllegalStateException("Corrupt record in audit journal segment "
+                                + segment.path.getFileName() + " at position " + position);
+                    }
+                    visited++;
+                    if (!visitor.visit(timestamp, view.slice(position + HEADER_SIZE, length))) {
+                        return visited;
+                    }
+                }
+                position += HEADER_SIZE + length;
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Writes the active segment's changes to disk
+     * Until then they are in the page cache, which survives a crash of the process but not of the machine
+     */
+    public synchronized void force() {
+        if (!closed) {
+            active.buffer.force();
+        }
+    }
+
+    /**
+     * @return Number of segment files
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return Bytes taken by stored records and their headers
+     */
+    public long size() {
+        return segments.stream().mapToLong(segment -> segment.limit).sum();
+    }
+
+    /**
+     * Forces the active segment to disk and stops reads and appends
+     * The mappings are released once the buffers are garbage collected
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            active.buffer.force();
+            closed = true;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Audit journal is closed");
+        }
+    }
+
+    /**
+     * Seals the active segment with its index file and starts the next one
+     * Can be repeated after a failure: the index is rewritten and a next segment file that an earlier
+     * attempt or a crash left behind is opened instead of created
+     */
+    private void rotate() throws IOException {
+        active.buffer.force();
+        writeIndex(active);
+        long number = active.number + 1;
+        Segment next = Files.exists(segmentPath(number)) ? openActive(number) : create(number);
+        segments.add(next);
+        active = next;
+    }
+
+    private Segment create(long number) throws IOException {
+        Path path = segmentPath(number);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (channel) {
+            // Mapping past the end grows the file; the new bytes read as zero, which ends a recovery read
+            return new Segment(number, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize), indexInterval);
+        } catch (IOException | RuntimeException e) {
+            // The file was created by this call, so removing it leaves the journal as it was
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private Segment openActive(long number) throws IOException {
+        Path path = segmentPath(number);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int size = (int) Math.max(channel.size(), segmentSize);
+            Segment segment = new Segment(number, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), indexInterval);
+            recover(segment);
+            // Clears the header of a torn record, so it is not mistaken for the end of a later append
+            ByteBuffer buffer = segment.buffer.duplicate();
+            for (int position = segment.limit; position < buffer.capacity() && position < segment.limit + HEADER_SIZE; position++) {
+                buffer.put(position, (byte) 0);
+            }
+            return segment;
+        }
+    }
+
+    private Segment openSealed(long number) throws IOException {
+        Path path = segmentPath(number);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Segment segment = new Segment(number, path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), indexInterval);
+            if (!readIndex(segment)) {
+                // Sealed before its index was written, or the index file is damaged
+                recover(segment);
+                writeIndex(segment);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Reads a segment from the start up to its first incomplete or corrupt record, rebuilding its index
+     */
+    private static void recover(Segment segment) {
+        ByteBuffer view = segment.buffer.asReadOnlyBuffer();
+        CRC32C crc = new CRC32C();
+        int position = 0;
+        long previous = Long.MIN_VALUE;
+        while (position + HEADER_SIZE <= view.capacity()) {
+            int length = view.getInt(position);
+            if (length <= 0 || length > view.capacity() - position - HEADER_SIZE) {
+                break;
+            }
+            long timestamp = view.getLong(position + 8);
+            crc.reset();
+            crc.update(view.slice(position + 8, 8 + length));
+            if ((int) crc.getValue() != view.getInt(position + 4) || timestamp < previous) {
+                break;
+            }
+            segment.appended(timestamp, position, position + HEADER_SIZE + length, segment.indexInterval);
+            previous = timestamp;
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    /**
+     * Index file: limit, first and last timestamp, entry count, entries of timestamp and position, CRC32C of all before it
+     */
+    private void writeIndex(Segment segment) throws IOException {
+        int count = segment.indexSize;
+        ByteBuffer index = ByteBuffer.allocate(4 + 8 + 8 + 4 + count * 12 + 4);
+        index.putInt(segment.limit).putLong(segment.firstTimestamp).putLong(segment.lastTimestamp).putInt(count);
+        for (int i = 0; i < count; i++) {
+            index.putLong(segment.indexTimestamps[i]).putInt(segment.indexPositions[i]);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(index.array(), 0, index.position());
+        index.putInt((int) crc.getValue()).flip();
+
+        Path path = indexPath(segment.number);
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean readIndex(Segment segment) throws IOException {
+        ByteBuffer index;
+        try {
+            index = ByteBuffer.wrap(Files.readAllBytes(indexPath(segment.number)));
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (index.capacity() < 28) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(index.array(), 0, index.capacity() - 4);
+        int limit = index.getInt();
+        long first = index.getLong();
+        long last = index.getLong();
+        int count = index.getInt();
+        if ((int) crc.getValue() != index.getInt(index.capacity() - 4)
+                || count < 0 || count > segment.indexTimestamps.length
+                || index.capacity() != 28 + count * 12
+                || limit < 0 || limit > segment.buffer.capacity()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            segment.indexTimestamps[i] = index.getLong();
+            segment.indexPositions[i] = index.getInt();
+        }
+        segment.indexSize = count;
+        segment.firstTimestamp = first;
+        segment.lastTimestamp = last;
+        segment.limit = limit;
+        return true;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%020d", number) + SEGMENT_SUFFIX);
+    }
+
+    private Path indexPath(long number) {
+        return directory.resolve(String.format("%020d", number) + INDEX_SUFFIX);
+    }
+
+    /**
+     * One mapped segment file with its sparse time index
+     * Only the appending thread writes; it publishes a record by moving the volatile limit past it
+     */
+    private static final class Segment {
+
+        final long number;
+        final Path path;
+        final MappedByteBuffer buffer;
+        final int indexInterval;
+        final long[] indexTimestamps;
+        final int[] indexPositions;
+        volatile int indexSize;
+        volatile int limit;
+        volatile long firstTimestamp = Long.MAX_VALUE;
+        volatile long lastTimestamp = Long.MIN_VALUE;
+        private int nextIndexPosition;
+
+        Segment(long number, Path path, MappedByteBuffer buffer, int indexInterval) {
+            this.number = number;
+            this.path = path;
+            this.buffer = buffer;
+            this.indexInterval = indexInterval;
+            // An entry at most every indexInterval bytes, starting with the first record
+            int entries = buffer.capacity() / indexInterval + 1;
+            this.indexTimestamps = new long[entries];
+            this.indexPositions = new int[entries];
+        }
+
+        void appended(long timestamp, int position, int end, int interval) {
+            if (position >= nextIndexPosition && indexSize < indexTimestamps.length) {
+                indexTimestamps[indexSize] = timestamp;
+                indexPositions[indexSize] = position;
+                indexSize = indexSize + 1;
+                nextIndexPosition = position + interval;
+            }
+            if (firstTimestamp == Long.MAX_VALUE) {
+                firstTimestamp = timestamp;
+            }
+            lastTimestamp = timestamp;
+            limit = end;
+        }
+
+        /**
+         * @return Position of the last indexed record older than from, or 0; every record before it is older too
+         */
+        int seek(long from, int limit) {
+            int low = 0;
+            int high = indexSize - 1;
+            int position = 0;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (indexTimestamps[middle] < from && indexPositions[middle] < limit) {
+                    position = indexPositions[middle];
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ticketsystem.backend.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 CSV: a header row, CRLF line breaks, and fields quoted
+ * when they contain a comma, quote or line break
+ * Values are written with toString(), so dates come out in ISO format as the CSV import expects them
+ */
+class CsvExportWriter<T> implements ExportWriter<T> {
+
+    private final Writer writer;
+    private final List<Column<T>> columns;
+
+    CsvExportWriter(OutputStream output, List<Column<T>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.columns = columns;
+        for (int i = 0; i < columns.size(); i++) {
+            writeField(i, columns.get(i).name());
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = columns.get(i).value().apply(row);
+            writeField(i, value == null ? "" : value.toString());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(int index, String value) throws IOException {
+        if (index > 0) {
+            writer.write(',');
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ticketsystem.backend.util;
+
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads CSV records (RFC 4180: quoted fields may contain commas, doubled quotes and line breaks)
+ * The header row names the columns: title, description, priority and category are required,
+ * status and createdDate (ISO date-time) are optional; other columns are ignored
+ */
+class CsvTicketImportReader implements TicketImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "description", "priority", "category");
+
+    // A longer field means an unterminated quote is swallowing the rest of the input
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long rowNumber;
+
+    CsvTicketImportReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet exports may start with a byte order mark
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                reader.close();
+                throw new IOException("CSV header is missing the " + column + " column");
+            }
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+        rowNumber++;
+
+        List<String> errors = new ArrayList<>();
+        TicketDTO ticket = new TicketDTO();
+        ticket.setTitle(value(record, "title"));
+        ticket.setDescription(value(record, "description"));
+        ticket.setPriority(parseEnum(Priority.class, value(record, "priority"), "priority", errors));
+        ticket.setCategory(parseEnum(Category.class, value(record, "category"), "category", errors));
+        ticket.setStatus(parseEnum(Status.class, value(record, "status"), "status", errors));
+        String createdDate = value(record, "createddate");
+        if (createdDate != null) {
+            try {
+                ticket.setCreatedDate(LocalDateTime.parse(createdDate));
+            } catch (DateTimeParseException e) {
+                errors.add("Invalid createdDate: " + createdDate);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return new Row(rowNumber, null, String.join(", ", errors));
+        }
+        return new Row(rowNumber, ticket, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return The trimmed value of a column, or null if the column or value is missing
+     */
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String column, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the fields of the next record
+     * @return The fields, or null at the end of the input
+     * @throws IOException if a quoted field is not terminated
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+            empty = false;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new IOException("Field longer than " + MAX_FIELD_LENGTH + " characters in row " + (rowNumber + 1));
+            }
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted field in row " + (rowNumber + 1));
+        }
+        if (empty) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
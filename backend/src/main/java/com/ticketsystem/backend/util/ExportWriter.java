@@ -0,0 +1,54 @@
+package com.ticketsystem.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes exported rows one at a time, so an export of any size is never held in memory
+ * The output is only flushed, never closed; it belongs to the caller
+ * @param <T> Type of the exported rows
+ */
+public interface ExportWriter<T> {
+
+    /**
+     * One exported field
+     * @param name Column header in CSV, property name in NDJSON
+     * @param value Extracts the value from a row; null values are written as empty fields or JSON null
+     */
+    record Column<T>(String name, Function<T, ?> value) {
+    }
+
+    /**
+     * Writes one row
+     */
+    void write(T row) throws IOException;
+
+    /**
+     * Writes buffered rows to the output
+     */
+    void flush() throws IOException;
+
+    /**
+     * @param output Stream the lines are written to
+     * @param objectMapper Mapper that serializes the values
+     * @param columns Properties of each line's object
+     * @return Writer of one JSON object per line
+     */
+    static <T> ExportWriter<T> ndjson(OutputStream output, ObjectMapper objectMapper, List<Column<T>> columns)
+            throws IOException {
+        return new NdjsonExportWriter<>(output, objectMapper, columns);
+    }
+
+    /**
+     * @param output Stream the records are written to, as UTF-8
+     * @param columns Columns of each record, also written as the header row
+     * @return Writer of RFC 4180 CSV records
+     */
+    static <T> ExportWriter<T> csv(OutputStream output, List<Column<T>> columns) throws IOException {
+        return new CsvExportWriter<>(output, columns);
+    }
+}
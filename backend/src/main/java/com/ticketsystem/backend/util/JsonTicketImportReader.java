@@ -0,0 +1,56 @@
+package com.ticketsystem.backend.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.dtos.TicketDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streams the elements of a JSON array with Jackson's parser
+ * Each element is read as a tree first, so a value that does not bind only rejects its own row
+ */
+class JsonTicketImportReader implements TicketImportReader {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+
+    JsonTicketImportReader(InputStream input, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(input);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Expected a JSON array of tickets");
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        rowNumber++;
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new Row(rowNumber, null, "Expected a ticket object");
+        }
+
+        JsonNode node = objectMapper.readTree(parser);
+        try {
+            return new Row(rowNumber, objectMapper.treeToValue(node, TicketDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(rowNumber, null, "Unreadable ticket: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ticketsystem.backend.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes one JSON object per line with Jackson's generator
+ */
+class NdjsonExportWriter<T> implements ExportWriter<T> {
+
+    private final JsonGenerator generator;
+    private final List<Column<T>> columns;
+
+    NdjsonExportWriter(OutputStream output, ObjectMapper objectMapper, List<Column<T>> columns) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        this.generator.setCodec(objectMapper);
+        // Objects are separated by the line breaks written below
+        this.generator.setRootValueSeparator(null);
+        this.columns = columns;
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        generator.writeStartObject();
+        for (Column<T> column : columns) {
+            generator.writeObjectField(column.name(), column.value().apply(row));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
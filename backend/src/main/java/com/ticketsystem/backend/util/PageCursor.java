@@ -0,0 +1,52 @@
+package com.ticketsystem.backend.util;
+
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last row on a page, ordered by (timestamp, id)
+ * Travels to clients as an opaque URL-safe string
+ */
+public record PageCursor(LocalDateTime timestamp, Long id) {
+
+    /**
+     * Position before the first row of the first page
+     */
+    public static final PageCursor START = new PageCursor(null, null);
+
+    /**
+     * Encodes this position as an opaque cursor string
+     * @return URL-safe Base64 cursor
+     */
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by encode, treating a missing cursor as the first page
+     * @param cursor The cursor string sent by the client, may be null or blank
+     * @return The decoded position
+     * @throws InvalidTicketDataException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new InvalidTicketDataException("Invalid page cursor");
+            }
+            return new PageCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTicketDataException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ticketsystem.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.dtos.TicketDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads tickets to import one row at a time, so an input of any size is never held in memory
+ */
+public interface TicketImportReader extends Closeable {
+
+    /**
+     * One input row: either the ticket it describes or why it could not be read
+     * @param number Position of the row, counted from 1
+     * @param ticket The ticket data, null if the row could not be read
+     * @param error Why the row could not be read, null if it could
+     */
+    record Row(long number, TicketDTO ticket, String error) {
+    }
+
+    /**
+     * Reads the next row
+     * @return The next row, or null after the last one
+     * @throws IOException if the input is malformed in a way that no later row can be read
+     */
+    Row next() throws IOException;
+
+    /**
+     * @param input A JSON array of ticket objects with TicketDTO property names
+     * @param objectMapper Mapper that binds each object
+     * @return Reader over the array elements
+     * @throws IOException if the input does not start with an array
+     */
+    static TicketImportReader json(InputStream input, ObjectMapper objectMapper) throws IOException {
+        return new JsonTicketImportReader(input, objectMapper);
+    }
+
+    /**
+     * @param input UTF-8 CSV with a header row naming the TicketDTO properties
+     * @return Reader over the data rows
+     * @throws IOException if the header is missing a required column
+     */
+    static TicketImportReader csv(InputStream input) throws IOException {
+        return new CsvTicketImportReader(input);
+    }
+}
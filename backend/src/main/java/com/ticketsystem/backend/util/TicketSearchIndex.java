@@ -0,0 +1,373 @@
+package com.ticketsystem.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over ticket title, description and comments, ranked with BM25
+ *
+ * Every indexed ticket gets a document number; postings are parallel int arrays of document
+ * numbers and term frequencies, kept sorted because numbers only ever grow. Re-indexing a ticket
+ * marks its old document deleted and appends a new one; deleted documents are dropped once they
+ * outnumber the live ones. Searches merge the postings of the query terms and keep only the
+ * requested window of best hits, so a query never allocates per indexed ticket.
+ * Safe to use from any thread
+ */
+public final class TicketSearchIndex {
+
+    // A title word says more about a ticket than one in a long description or comment
+    static final int TITLE_WEIGHT = 3;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    /**
+     * One ranked match
+     */
+    public record Hit(long ticketId, double score) {
+    }
+
+    /**
+     * @param totalHits Number of visible tickets matching any query term
+     * @param hits The requested window of matches, best first
+     */
+    public record Result(long totalHits, List<Hit> hits) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documentsByTicket = new HashMap<>();
+
+    // Indexed by document number
+    private long[] ticketIds = new long[1024];
+    private long[] ownerIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int documentCount;
+    private long liveLength;
+
+    /**
+     * Adds a ticket, replacing what was indexed for it before
+     * @param ticketId ID of the ticket
+     * @param ownerId ID of the user who created the ticket, or null
+     * @param title Ticket title
+     * @param description Ticket description
+     * @param comments Content of the ticket's comments
+     */
+    public void index(long ticketId, Long ownerId, String title, String description, Collection<String> comments) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, title, TITLE_WEIGHT)
+                + addTerms(frequencies, description, 1);
+        for (String comment : comments) {
+            length += addTerms(frequencies, comment, 1);
+        }
+
+        lock.writeLock().lock();
+        try {
+            delete(ticketId);
+            int document = documentCount++;
+            if (document == ticketIds.length) {
+                int capacity = ticketIds.length * 2;
+                ticketIds = Arrays.copyOf(ticketIds, capacity);
+                ownerIds = Arrays.copyOf(ownerIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            ticketIds[document] = ticketId;
+            ownerIds[document] = ownerId == null ? Long.MIN_VALUE : ownerId;
+            lengths[document] = length;
+            liveLength += length;
+            documentsByTicket.put(ticketId, document);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(document, frequency));
+
+            int deletedCount = deleted.cardinality();
+            if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount > documentsByTicket.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a ticket from the index
+     * @param ticketId ID of the ticket
+     */
+    public void remove(long ticketId) {
+        lock.writeLock().lock();
+        try {
+            delete(ticketId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tickets matching any term of a query, best match first
+     * Ties are broken by ticket ID, newest first
+     * @param query Free text; split into terms the same way indexed text is
+     * @param ownerId Only return tickets created by this user, or null for all tickets
+     * @param offset Number of best hits to skip
+     * @param limit Maximum number of hits to return
+     * @return Total number of matches and the requested window of hits
+     */
+    public Result search(String query, Long ownerId, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        Comparator<Candidate> worstFirst = Comparator.comparingDouble(Candidate::score)
+                .thenComparingLong(Candidate::ticketId);
+        PriorityQueue<Candidate> best = new PriorityQueue<>(worstFirst);
+        int window = offset + limit;
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            List<Cursor> cursors = new ArrayList<>(terms.size());
+            int liveCount = documentsByTicket.size();
+            double averageLength = liveCount == 0 ? 1 : Math.max(1, (double) liveLength / liveCount);
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null) {
+                    int documentFrequency = termPostings.liveCount(deleted);
+                    if (documentFrequency > 0) {
+                        double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                        cursors.add(new Cursor(termPostings, idf));
+                    }
+                }
+            }
+
+            // Merge the sorted postings, scoring each document once all its query terms are seen
+            PriorityQueue<Cursor> merge = new PriorityQueue<>(Comparator.comparingInt(Cursor::document));
+            cursors.stream().filter(Cursor::advance).forEach(merge::add);
+            while (!merge.isEmpty()) {
+                int document = merge.peek().document();
+                double score = 0;
+                while (!merge.isEmpty() && merge.peek().document() == document) {
+                    Cursor cursor = merge.poll();
+                    score += cursor.score(lengths[document], averageLength);
+                    if (cursor.advance()) {
+                        merge.add(cursor);
+                    }
+                }
+                if (deleted.get(document) || (ownerId != null && ownerIds[document] != ownerId)) {
+                    continue;
+                }
+                total++;
+                if (window > 0) {
+                    Candidate candidate = new Candidate(ticketIds[document], score);
+                    if (best.size() < window) {
+                        best.add(candidate);
+                    } else if (worstFirst.compare(candidate, best.peek()) > 0) {
+                        best.poll();
+                        best.add(candidate);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Candidate candidate = best.poll();
+            hits.add(new Hit(candidate.ticketId(), candidate.score()));
+        }
+        Collections.reverse(hits);
+        return new Result(total, hits.size() > offset ? hits.subList(offset, hits.size()) : List.of());
+    }
+
+    /**
+     * @return Number of indexed tickets
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByTicket.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of distinct terms
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of (term, document) entries, including those of deleted documents not yet compacted
+     */
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(termPostings -> termPostings.size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-case terms of letters and digits
+     * @param text Any text, may be null
+     * @return The terms in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean partOfTerm = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (partOfTerm && start < 0) {
+                start = i;
+            } else if (!partOfTerm && start >= 0) {
+                // Longer runs are hashes, encoded data or stack trace noise rather than words
+                if (i - start <= MAX_TERM_LENGTH) {
+                    terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private void delete(long ticketId) {
+        Integer document = documentsByTicket.remove(ticketId);
+        if (document != null) {
+            deleted.set(document);
+            liveLength -= lengths[document];
+        }
+    }
+
+    /**
+     * Drops deleted documents from the postings and renumbers the live ones, keeping their order
+     */
+    private void compact() {
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+            } else {
+                renumbered[document] = next;
+                ticketIds[next] = ticketIds[document];
+                ownerIds[next] = ownerIds[document];
+                lengths[next] = lengths[document];
+                documentsByTicket.put(ticketIds[next], next);
+                next++;
+            }
+        }
+        documentCount = next;
+        deleted.clear();
+        postings.values().removeIf(termPostings -> termPostings.renumber(renumbered) == 0);
+    }
+
+    private record Candidate(long ticketId, double score) {
+    }
+
+    /**
+     * Documents containing one term, in ascending document order
+     */
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int liveCount(BitSet deleted) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (!deleted.get(documents[i])) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+        /**
+         * @return Number of postings left
+         */
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size < documents.length / 4) {
+                documents = Arrays.copyOf(documents, Math.max(4, size));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, size));
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Position in the postings of one query term
+     */
+    private static final class Cursor {
+        private final Postings postings;
+        private final double idf;
+        private int position = -1;
+
+        Cursor(Postings postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+
+        boolean advance() {
+            return ++position < postings.size;
+        }
+
+        int document() {
+            return postings.documents[position];
+        }
+
+        double score(int length, double averageLength) {
+            int frequency = postings.frequencies[position];
+            return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+        }
+    }
+}
@@ -3,12 +3,37 @@ package com.ticketsystem.backend.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ticketsystem.backend.dtos.AuditLogDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeResultDTO;
+import com.ticketsystem.backend.dtos.OpenTicketAgeDTO;
+import com.ticketsystem.backend.dtos.TicketChangesDTO;
 import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketSearchHitDTO;
+import com.ticketsystem.backend.dtos.TicketSearchPageDTO;
+import com.ticketsystem.backend.dtos.TicketStatsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusCountsDTO;
+import com.ticketsystem.backend.dtos.TicketImportErrorDTO;
+import com.ticketsystem.backend.dtos.TicketImportResultDTO;
+import com.ticketsystem.backend.dtos.TicketPageDTO;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.dtos.TicketStatusChangeDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryPageDTO;
 import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.ExportFormat;
+import com.ticketsystem.backend.enums.ImportFormat;
 import com.ticketsystem.backend.enums.Priority;
 import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.enums.StatusChangeOutcome;
 import com.ticketsystem.backend.exceptions.TicketNotFoundException;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
 import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.services.TicketEventBroadcaster;
+import com.ticketsystem.backend.services.TicketExportService;
+import com.ticketsystem.backend.services.TicketImportService;
+import com.ticketsystem.backend.services.TicketSearchService;
 import com.ticketsystem.backend.services.TicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,8 +42,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,9 +57,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class TicketControllerTest {
@@ -38,6 +71,18 @@ public class TicketControllerTest {
     @Mock
     private TicketService ticketService;
 
+    @Mock
+    private TicketEventBroadcaster ticketEventBroadcaster;
+
+    @Mock
+    private TicketImportService ticketImportService;
+
+    @Mock
+    private TicketExportService ticketExportService;
+
+    @Mock
+    private TicketSearchService ticketSearchService;
+
     @InjectMocks
     private TicketController ticketController;
 
@@ -156,6 +201,66 @@ public class TicketControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getTicketPage_ShouldReturnPageWithCursor() throws Exception {
+
+        TicketPageDTO page = new TicketPageDTO(Arrays.asList(ticketDTO), "next", true);
+        when(ticketService.getTicketPage(any(TicketPageRequest.class), anyLong())).thenReturn(page);
+
+        mockMvc.perform(get("/api/tickets/page")
+                        .header("User-Id", itSupportId)
+                        .param("status", "NEW")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tickets", hasSize(1)))
+                .andExpect(jsonPath("$.tickets[0].id", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is("next")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    void getTicketSummaryPage_ShouldReturnSummariesWithoutComments() throws Exception {
+
+        TicketSummaryDTO summary = new TicketSummaryDTO(1L, "Test Ticket", Priority.MEDIUM,
+                Category.SOFTWARE, Status.NEW, null, null, employeeId);
+        TicketSummaryPageDTO page = new TicketSummaryPageDTO(Arrays.asList(summary), null, false);
+        when(ticketService.getTicketSummaryPage(any(TicketPageRequest.class), anyLong())).thenReturn(page);
+
+        mockMvc.perform(get("/api/tickets/summaries")
+                        .header("User-Id", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tickets", hasSize(1)))
+                .andExpect(jsonPath("$.tickets[0].title", is("Test Ticket")))
+                .andExpect(jsonPath("$.tickets[0].ticketComments").doesNotExist())
+                .andExpect(jsonPath("$.tickets[0].description").doesNotExist());
+    }
+
+    @Test
+    void getTicketChanges_ShouldPassCursorAndReturnDelta() throws Exception {
+
+        TicketChangesDTO changes = new TicketChangesDTO(Arrays.asList(ticketDTO), "next", true);
+        when(ticketService.getTicketChanges("previous", 100, employeeId)).thenReturn(changes);
+
+        mockMvc.perform(get("/api/tickets/changes")
+                        .param("cursor", "previous")
+                        .param("size", "100")
+                        .header("User-Id", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tickets", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", is("next")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    void streamTicketEvents_ShouldOpenAsyncEventStream() throws Exception {
+
+        when(ticketEventBroadcaster.subscribe(employeeId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tickets/stream")
+                        .header("User-Id", employeeId))
+                .andExpect(request().asyncStarted());
+    }
+
     @Test
     void getTicketsByStatus_ShouldReturnFilteredTickets() throws Exception {
 
@@ -200,23 +305,181 @@ public class TicketControllerTest {
         auditLogDTO.setOldValue("NEW");
         auditLogDTO.setNewValue("IN_PROGRESS");
 
-        List<AuditLogDTO> auditLogs = Arrays.asList(auditLogDTO);
-        when(ticketService.getAuditLogs(itSupportId)).thenReturn(auditLogs);
+        AuditLogPageDTO page = new AuditLogPageDTO(Arrays.asList(auditLogDTO), null, false);
+        when(ticketService.getAuditLogs(any(AuditLogPageRequest.class), anyLong())).thenReturn(page);
 
         mockMvc.perform(get("/api/tickets/audit-logs")
-                        .header("User-Id", itSupportId))
+                        .header("User-Id", itSupportId)
+                        .param("ticketId", "1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].action", is("STATUS_CHANGE")));
+                .andExpect(jsonPath("$.auditLogs", hasSize(1)))
+                .andExpect(jsonPath("$.auditLogs[0].action", is("STATUS_CHANGE")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
     }
 
     @Test
     void getAuditLogs_AsEmployee_ShouldReturnForbidden() throws Exception {
 
-        when(ticketService.getAuditLogs(employeeId)).thenThrow(UnauthorizedAccessException.class);
+        when(ticketService.getAuditLogs(any(AuditLogPageRequest.class), anyLong()))
+                .thenThrow(UnauthorizedAccessException.class);
 
         mockMvc.perform(get("/api/tickets/audit-logs")
                         .header("User-Id", employeeId))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    @Test
+    void importTickets_Json_ShouldReturnImportResult() throws Exception {
+
+        TicketImportResultDTO result = new TicketImportResultDTO(2, 1, 1,
+                List.of(new TicketImportErrorDTO(2, "Invalid ticket data: Title is required")), false);
+        when(ticketImportService.importTickets(any(), eq(ImportFormat.JSON), eq(itSupportId))).thenReturn(result);
+
+        mockMvc.perform(post("/api/tickets/import")
+                        .header("User-Id", itSupportId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)));
+    }
+
+    @Test
+    void importTickets_CsvAsEmployee_ShouldReturnForbidden() throws Exception {
+
+        when(ticketImportService.importTickets(any(), eq(ImportFormat.CSV), eq(employeeId)))
+                .thenThrow(UnauthorizedAccessException.class);
+
+        mockMvc.perform(post("/api/tickets/import")
+                        .header("User-Id", employeeId)
+                        .contentType("text/csv")
+                        .content("title,description,priority,category\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportTickets_Csv_ShouldStreamAttachment() throws Exception {
+
+        StreamingResponseBody body = output -> output.write("id,title\r\n1,Title\r\n".getBytes(StandardCharsets.UTF_8));
+        when(ticketExportService.exportTickets(any(TicketPageRequest.class), eq(ExportFormat.CSV), eq(itSupportId)))
+                .thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/tickets/export")
+                        .header("User-Id", itSupportId)
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tickets.csv\""))
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,title\r\n1,Title\r\n"));
+    }
+
+    @Test
+    void exportAuditLogs_AsEmployee_ShouldReturnForbidden() throws Exception {
+
+        when(ticketExportService.exportAuditLogs(any(AuditLogPageRequest.class), eq(ExportFormat.NDJSON), eq(employeeId)))
+                .thenThrow(UnauthorizedAccessException.class);
+
+        mockMvc.perform(get("/api/tickets/audit-logs/export")
+                        .header("User-Id", employeeId))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportAuditJournal_WhenJournalDisabled_ShouldReturnBadRequest() throws Exception {
+
+        when(ticketExportService.exportAuditJournal(any(AuditLogPageRequest.class), eq(ExportFormat.CSV), eq(itSupportId)))
+                .thenThrow(new InvalidTicketDataException("The audit journal is not enabled"));
+
+        mockMvc.perform(get("/api/tickets/audit-logs/journal")
+                        .param("format", "CSV")
+                        .header("User-Id", itSupportId))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateStatuses_ShouldReturnOutcomePerTicket() throws Exception {
+
+        BulkStatusChangeResultDTO result = new BulkStatusChangeResultDTO(Status.IN_PROGRESS, LocalDateTime.now(), 1, List.of(
+                new TicketStatusChangeDTO(1L, StatusChangeOutcome.UPDATED, Status.RESOLVED),
+                new TicketStatusChangeDTO(2L, StatusChangeOutcome.NOT_FOUND, null)));
+        when(ticketService.updateStatuses(any(BulkStatusChangeRequest.class), eq(itSupportId))).thenReturn(result);
+
+        mockMvc.perform(put("/api/tickets/status")
+                        .header("User-Id", itSupportId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ticketIds\":[1,2],\"newStatus\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount", is(1)))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[1].outcome", is("NOT_FOUND")));
+    }
+
+    @Test
+    void searchTickets_ShouldReturnRankedHits() throws Exception {
+
+        TicketSummaryDTO summary = new TicketSummaryDTO(1L, "Printer jammed", Priority.HIGH, Category.HARDWARE,
+                Status.NEW, LocalDateTime.now(), LocalDateTime.now(), employeeId);
+        TicketSearchPageDTO page = new TicketSearchPageDTO(List.of(new TicketSearchHitDTO(summary, 2.5)), 1, 0, 20, false);
+        when(ticketSearchService.search("printer", 0, 20, employeeId)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tickets/search")
+                        .param("q", "printer")
+                        .param("page", "0")
+                        .param("size", "20")
+                        .header("User-Id", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits", is(1)))
+                .andExpect(jsonPath("$.hits[0].ticket.title", is("Printer jammed")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void rebuildSearchIndex_AsEmployee_ShouldReturnForbidden() throws Exception {
+
+        when(ticketSearchService.rebuildIndex(employeeId))
+                .thenThrow(new UnauthorizedAccessException("Operation not permitted for non-IT support users"));
+
+        mockMvc.perform(post("/api/tickets/search/rebuild")
+                        .header("User-Id", employeeId))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getTicketStats_ShouldReturnCounts() throws Exception {
+
+        TicketStatsDTO stats = new TicketStatsDTO();
+        stats.setTotalCount(3);
+        stats.setOpenCount(2);
+        stats.getByStatus().put(Status.NEW, 2L);
+        stats.getByStatus().put(Status.RESOLVED, 1L);
+        stats.setOpenTicketAge(new OpenTicketAgeDTO(1, 1, 0, 0));
+        when(ticketService.getTicketStats(itSupportId)).thenReturn(stats);
+
+        mockMvc.perform(get("/api/tickets/stats")
+                        .header("User-Id", itSupportId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openCount", is(2)))
+                .andExpect(jsonPath("$.byStatus.NEW", is(2)))
+                .andExpect(jsonPath("$.openTicketAge.underOneDay", is(1)));
+    }
+
+    @Test
+    void getStatusCounts_ShouldReturnCounts() throws Exception {
+
+        TicketStatusCountsDTO counts = new TicketStatusCountsDTO();
+        counts.setOpenCount(5);
+        counts.getByStatus().put(Status.NEW, 3L);
+        counts.getByStatus().put(Status.IN_PROGRESS, 2L);
+        when(ticketService.getStatusCounts(itSupportId)).thenReturn(counts);
+
+        mockMvc.perform(get("/api/tickets/counts")
+                        .header("User-Id", itSupportId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openCount", is(5)))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS", is(2)));
+    }
+}
@@ -1,9 +1,12 @@
 package com.ticketsystem.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.dtos.CacheStatsDTO;
+import com.ticketsystem.backend.dtos.CachedUser;
 import com.ticketsystem.backend.dtos.UserDTO;
 import com.ticketsystem.backend.entities.User;
 import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
 import com.ticketsystem.backend.exceptions.UserNotFoundException;
 import com.ticketsystem.backend.mappers.UserMapper;
 import com.ticketsystem.backend.services.UserService;
@@ -86,11 +89,30 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$[0].username", is("testuser")));
     }
 
+    @Test
+    void getAllUsers_WithIds_ShouldResolveBatch() throws Exception {
+
+        CachedUser cachedUser = new CachedUser(1L, "testuser", Role.ROLE_EMPLOYEE);
+        List<CachedUser> cachedUsers = List.of(cachedUser);
+        when(userService.findCachedByIds(List.of(1L, 2L))).thenReturn(cachedUsers);
+        when(userMapper.cachedToDTOList(cachedUsers)).thenReturn(List.of(userDTO));
+
+        mockMvc.perform(get("/api/users")
+                        .param("ids", "1,2")
+                        .header("User-Id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("testuser")));
+
+        verify(userService, never()).getAllUsers();
+    }
+
     @Test
     void getUserById_ValidId_ShouldReturnUser() throws Exception {
 
-        when(userService.findById(1L)).thenReturn(user);
-        when(userMapper.toDTO(user)).thenReturn(userDTO);
+        CachedUser cachedUser = new CachedUser(1L, "testuser", Role.ROLE_EMPLOYEE);
+        when(userService.findCachedById(1L)).thenReturn(cachedUser);
+        when(userMapper.toDTO(cachedUser)).thenReturn(userDTO);
 
         mockMvc.perform(get("/api/users/1")
                         .header("User-Id", "1"))
@@ -102,13 +124,36 @@ public class UserControllerTest {
     @Test
     void getUserById_InvalidId_ShouldReturnNotFound() throws Exception {
 
-        when(userService.findById(99L)).thenThrow(UserNotFoundException.class);
+        when(userService.findCachedById(99L)).thenThrow(UserNotFoundException.class);
 
         mockMvc.perform(get("/api/users/99")
                         .header("User-Id", "1"))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getCacheStats_ShouldReturnCounters() throws Exception {
+
+        when(userService.getCacheStats(1L)).thenReturn(new CacheStatsDTO(1, 1, 1, 0.5, 0));
+
+        mockMvc.perform(get("/api/users/cache/stats")
+                        .header("User-Id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", is(1)))
+                .andExpect(jsonPath("$.hitCount", is(1)))
+                .andExpect(jsonPath("$.missCount", is(1)));
+    }
+
+    @Test
+    void getCacheStats_AsEmployee_ShouldReturnForbidden() throws Exception {
+
+        when(userService.getCacheStats(2L)).thenThrow(UnauthorizedAccessException.class);
+
+        mockMvc.perform(get("/api/users/cache/stats")
+                        .header("User-Id", "2"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void deleteUser_ValidId_ShouldDeleteUser() throws Exception {
 
@@ -0,0 +1,512 @@
+package com.ticketsystem.backend.repositories;
+
+import com.ticketsystem.backend.config.SecondLevelCacheConfig;
+import com.ticketsystem.backend.dtos.OpenTicketAgeDTO;
+import com.ticketsystem.backend.dtos.TicketCountDTO;
+import com.ticketsystem.backend.dtos.TicketStatusDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.TicketComment;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that ticket list queries run a fixed number of SQL statements
+ * regardless of how many tickets they return, that inserts are batched, and that
+ * single ticket lookups are served from the second-level cache
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(SecondLevelCacheConfig.class)
+public class TicketRepositoryTest {
+
+    private static final int TICKET_COUNT = 30;
+    private static final int COMMENTS_PER_TICKET = 3;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User employee;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        employee = new User();
+        employee.setUsername("employee");
+        employee.setPassword("password");
+        employee.setRole(Role.ROLE_EMPLOYEE);
+        entityManager.persist(employee);
+
+        now = LocalDateTime.now();
+        for (int i = 0; i < TICKET_COUNT; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket " + i);
+            ticket.setDescription("Description " + i);
+            ticket.setPriority(Priority.MEDIUM);
+            ticket.setCategory(Category.SOFTWARE);
+            ticket.setStatus(Status.NEW);
+            ticket.setCreatedBy(employee);
+            ticket.setLastUpdated(now.minusMinutes(i));
+
+            for (int j = 0; j < COMMENTS_PER_TICKET; j++) {
+                TicketComment comment = new TicketComment();
+                comment.setContent("Comment " + j);
+                comment.setCreatedBy(employee);
+                comment.setTicket(ticket);
+                ticket.getTicketComments().add(comment);
+            }
+            entityManager.persist(ticket);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Touches everything TicketMapper reads, so lazy loading shows up in the statement count
+     */
+    private void touchMappedAssociations(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            assertNotNull(ticket.getCreatedBy().getId());
+            for (TicketComment comment : ticket.getTicketComments()) {
+                assertNotNull(comment.getCreatedBy().getId());
+            }
+        }
+    }
+
+    @Test
+    void findByStatus_ShouldLoadCommentsInSingleStatement() {
+        // Act
+        List<Ticket> tickets = ticketRepository.findByStatus(Status.NEW);
+        touchMappedAssociations(tickets);
+
+        // Assert
+        assertEquals(TICKET_COUNT, tickets.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByCreatedBy_ShouldLoadCommentsInSingleStatement() {
+        // Act
+        List<Ticket> tickets = ticketRepository.findByCreatedBy_Id(employee.getId());
+        touchMappedAssociations(tickets);
+
+        // Assert
+        assertEquals(TICKET_COUNT, tickets.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAll_ShouldLoadCommentsInSingleStatement() {
+        // Act
+        List<Ticket> tickets = ticketRepository.findAll();
+        touchMappedAssociations(tickets);
+
+        // Assert
+        assertEquals(TICKET_COUNT, tickets.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPage_ShouldBatchFetchComments() {
+        // Act
+        List<Ticket> tickets = ticketRepository.findPage(null, null, null, null, null, null,
+                null, null, PageRequest.of(0, TICKET_COUNT));
+        touchMappedAssociations(tickets);
+
+        // Assert
+        assertEquals(TICKET_COUNT, tickets.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPage_WithCursor_ShouldContinueAfterLastTicket() {
+        // Arrange
+        List<Ticket> firstPage = ticketRepository.findPage(null, null, null, null, null, null,
+                null, null, PageRequest.of(0, 10));
+        Ticket last = firstPage.get(firstPage.size() - 1);
+
+        // Act
+        List<Ticket> secondPage = ticketRepository.findPage(null, null, null, null, null, null,
+                last.getLastUpdated(), last.getId(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(10, secondPage.size());
+        assertTrue(secondPage.get(0).getLastUpdated().isBefore(last.getLastUpdated()));
+        assertTrue(secondPage.stream().noneMatch(t -> firstPage.contains(t)));
+    }
+
+    @Test
+    void findPage_WhenTicketsHaveNoLastUpdated_ShouldWalkEveryTicketOnce() {
+        // Arrange: tickets saved without lastUpdated get their creation time, so these five share one
+        LocalDateTime created = now.minusDays(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Imported " + i);
+            ticket.setDescription("Description");
+            ticket.setPriority(Priority.LOW);
+            ticket.setCategory(Category.OTHER);
+            ticket.setCreatedBy(employee);
+            ticket.setCreatedDate(created);
+            entityManager.persist(ticket);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act: pages of four, each starting after the last ticket of the previous one
+        List<Ticket> walked = new ArrayList<>();
+        List<Ticket> page = ticketRepository.findPage(Status.NEW, null, null, employee.getId(), null, null,
+                null, null, PageRequest.of(0, 4));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Ticket last = page.get(page.size() - 1);
+            page = ticketRepository.findPage(Status.NEW, null, null, employee.getId(), null, null,
+                    last.getLastUpdated(), last.getId(), PageRequest.of(0, 4));
+        }
+
+        // Assert
+        assertEquals(TICKET_COUNT + 5, walked.size());
+        assertEquals(TICKET_COUNT + 5, walked.stream().map(Ticket::getId).distinct().count());
+        List<Ticket> imported = walked.subList(TICKET_COUNT, walked.size());
+        assertTrue(imported.stream().allMatch(ticket -> created.equals(ticket.getLastUpdated())));
+    }
+
+    @Test
+    void findAuditLogPage_WithCursor_ShouldWalkEveryEntryOnceInSingleStatements() {
+        // Arrange: seven entries of one ticket, three of them written at the same time
+        Ticket ticket = ticketRepository.findByStatus(Status.NEW).get(0);
+        LocalDateTime written = now.withNano(0);
+        for (int i = 0; i < 7; i++) {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setAction("COMMENT_ADDED");
+            auditLog.setTicket(ticket);
+            auditLog.setPerformedBy(employee);
+            auditLog.setCreatedDate(i < 3 ? written : written.minusMinutes(i));
+            entityManager.persist(auditLog);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act: pages of two, each starting before the last entry of the previous one
+        List<AuditLog> walked = new ArrayList<>();
+        List<AuditLog> page = auditLogRepository.findPage(ticket.getId(), null, "COMMENT_ADDED", null, null,
+                null, null, PageRequest.of(0, 2));
+        int pages = 1;
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            AuditLog last = page.get(page.size() - 1);
+            page = auditLogRepository.findPage(ticket.getId(), null, "COMMENT_ADDED", null, null,
+                    last.getCreatedDate(), last.getId(), PageRequest.of(0, 2));
+            pages++;
+        }
+
+        // Assert
+        assertEquals(7, walked.size());
+        assertEquals(7, walked.stream().map(AuditLog::getId).distinct().count());
+        assertEquals(written.minusMinutes(6), walked.get(6).getCreatedDate());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findChangedSince_ShouldReturnNewerTicketsOldestFirstWithBatchFetchedComments() {
+        // Act
+        List<Ticket> tickets = ticketRepository.findChangedSince(employee.getId(), now.minusSeconds(330), 0L,
+                PageRequest.of(0, 4));
+        touchMappedAssociations(tickets);
+
+        // Assert
+        assertEquals(4, tickets.size());
+        assertEquals("Ticket 5", tickets.get(0).getTitle());
+        assertEquals("Ticket 2", tickets.get(tickets.size() - 1).getTitle());
+        // Tickets, then one batch of their comments and one of the creator
+        assertTrue(statistics.getPrepareStatementCount() <= 3);
+    }
+
+    @Test
+    void findChangedSince_WithCursor_ShouldWalkEveryTicketOnce() {
+        // Arrange: five tickets changed at the same moment as Ticket 10
+        Ticket tenth = ticketRepository.findByStatus(Status.NEW).stream()
+                .filter(ticket -> ticket.getTitle().equals("Ticket 10")).findFirst().orElseThrow();
+        for (int i = 0; i < 5; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Simultaneous " + i);
+            ticket.setDescription("Description");
+            ticket.setPriority(Priority.LOW);
+            ticket.setCategory(Category.OTHER);
+            ticket.setStatus(Status.NEW);
+            ticket.setCreatedBy(employee);
+            ticket.setLastUpdated(tenth.getLastUpdated());
+            entityManager.persist(ticket);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act: pages of three, each continuing after the last ticket of the previous one
+        List<Ticket> walked = new ArrayList<>();
+        List<Ticket> page = ticketRepository.findChangedSince(null, null, null, PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Ticket last = page.get(page.size() - 1);
+            page = ticketRepository.findChangedSince(null, last.getLastUpdated(), last.getId(), PageRequest.of(0, 3));
+        }
+
+        // Assert
+        assertEquals(TICKET_COUNT + 5, walked.size());
+        assertEquals(TICKET_COUNT + 5, walked.stream().map(Ticket::getId).distinct().count());
+        assertEquals("Ticket 29", walked.get(0).getTitle());
+        assertEquals("Ticket 0", walked.get(walked.size() - 1).getTitle());
+    }
+
+    @Test
+    void findSummaryPage_ShouldSelectListColumnsInSingleStatement() {
+        // Act
+        List<TicketSummaryDTO> summaries = ticketRepository.findSummaryPage(Status.NEW, null, null,
+                employee.getId(), null, null, null, null, PageRequest.of(0, TICKET_COUNT));
+
+        // Assert
+        assertEquals(TICKET_COUNT, summaries.size());
+        assertEquals("Ticket 0", summaries.get(0).getTitle());
+        assertEquals(employee.getId(), summaries.get(0).getCreatedById());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamForExport_ShouldReadTicketsInIdOrderInSingleStatement() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        List<Long> creatorIds = new ArrayList<>();
+
+        // Act
+        try (Stream<Ticket> tickets = ticketRepository.streamForExport(Status.NEW, null, null,
+                employee.getId(), null, null)) {
+            tickets.forEach(ticket -> {
+                ids.add(ticket.getId());
+                creatorIds.add(ticket.getCreatedBy().getId());
+                // Exports clear the persistence context while the stream is open
+                entityManager.clear();
+            });
+        }
+
+        // Assert
+        assertEquals(TICKET_COUNT, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertTrue(creatorIds.stream().allMatch(employee.getId()::equals));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findIdsAfter_ShouldWalkAllTicketsInChunksWithTheirComments() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        int comments = 0;
+        Long afterId = Long.MIN_VALUE;
+
+        // Act
+        List<Long> chunk;
+        while (!(chunk = ticketRepository.findIdsAfter(afterId, PageRequest.of(0, 8))).isEmpty()) {
+            for (Ticket ticket : ticketRepository.findByIdIn(chunk)) {
+                comments += ticket.getTicketComments().size();
+            }
+            ids.addAll(chunk);
+            afterId = chunk.get(chunk.size() - 1);
+            entityManager.clear();
+        }
+
+        // Assert
+        assertEquals(TICKET_COUNT, ids.size());
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertEquals(TICKET_COUNT * COMMENTS_PER_TICKET, comments);
+        // Four chunks of IDs and their tickets, then the empty chunk that ends the walk
+        assertEquals(9, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSummariesByIdIn_ShouldSelectListColumnsInSingleStatement() {
+        // Arrange
+        List<Long> ids = ticketRepository.findIdsAfter(Long.MIN_VALUE, PageRequest.of(0, 5));
+        statistics.clear();
+
+        // Act
+        List<TicketSummaryDTO> summaries = ticketRepository.findSummariesByIdIn(ids);
+
+        // Assert
+        assertEquals(ids, summaries.stream().map(TicketSummaryDTO::getId).sorted().toList());
+        assertTrue(summaries.stream().allMatch(summary -> employee.getId().equals(summary.getCreatedById())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void countByStatusPriorityAndCategory_ShouldGroupInSingleStatement() {
+        // Arrange
+        List<Long> resolved = ticketRepository.findIdsAfter(Long.MIN_VALUE, PageRequest.of(0, 10));
+        ticketRepository.updateStatus(resolved, Status.RESOLVED, now);
+        statistics.clear();
+
+        // Act
+        List<TicketCountDTO> counts = ticketRepository.countByStatusPriorityAndCategory();
+
+        // Assert
+        assertEquals(2, counts.size());
+        for (TicketCountDTO count : counts) {
+            assertEquals(Priority.MEDIUM, count.getPriority());
+            assertEquals(Category.SOFTWARE, count.getCategory());
+            assertEquals(count.getStatus() == Status.RESOLVED ? 10 : TICKET_COUNT - 10, count.getCount());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void countByAge_ShouldBucketOpenTicketsInSingleStatement() {
+        // Arrange
+        // Ticket i was created i days and an hour ago; the oldest one is resolved
+        List<Ticket> tickets = ticketRepository.findAll();
+        tickets.sort(Comparator.comparing(Ticket::getId));
+        for (int i = 0; i < tickets.size(); i++) {
+            tickets.get(i).setCreatedDate(now.minusDays(i).minusHours(1));
+        }
+        tickets.get(tickets.size() - 1).setStatus(Status.RESOLVED);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        OpenTicketAgeDTO age = ticketRepository.countByAge(List.of(Status.NEW, Status.IN_PROGRESS),
+                now.minusDays(1), now.minusDays(7), now.minusDays(30));
+
+        // Assert
+        assertEquals(1, age.getUnderOneDay());
+        assertEquals(6, age.getOneToSevenDays());
+        assertEquals(TICKET_COUNT - 8, age.getSevenToThirtyDays());
+        assertEquals(0, age.getOverThirtyDays());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateStatus_ShouldChangeLockedTicketsInOneStatement() {
+        // Arrange
+        List<Long> ids = ticketRepository.findByStatus(Status.NEW).stream()
+                .map(Ticket::getId)
+                .limit(10)
+                .toList();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        List<TicketStatusDTO> locked = ticketRepository.findStatusesForUpdate(ids);
+        int updated = ticketRepository.updateStatus(ids, Status.RESOLVED, now);
+
+        // Assert
+        assertEquals(10, locked.size());
+        assertTrue(locked.stream().allMatch(ticket -> ticket.getStatus() == Status.NEW));
+        assertEquals(10, updated);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(10, ticketRepository.findByStatus(Status.RESOLVED).size());
+    }
+
+    @Test
+    void saveAndFlush_ShouldInsertNewCommentsAndAuditEntriesInBatches() {
+        // Arrange
+        Ticket ticket = ticketRepository.findByStatus(Status.NEW).get(0);
+        // The first allocation of a pooled sequence takes two calls; make it here so the count is stable
+        AuditLog first = new AuditLog();
+        first.setAction("COMMENT_ADDED");
+        first.setTicket(ticket);
+        entityManager.persist(first);
+        entityManager.flush();
+        for (int i = 0; i < 20; i++) {
+            TicketComment comment = new TicketComment();
+            comment.setContent("Batched comment " + i);
+            comment.setCreatedBy(employee);
+            comment.setTicket(ticket);
+            ticket.getTicketComments().add(comment);
+
+            AuditLog auditLog = new AuditLog();
+            auditLog.setAction("COMMENT_ADDED");
+            auditLog.setNewValue("Batched comment " + i);
+            auditLog.setPerformedBy(employee);
+            auditLog.setTicket(ticket);
+            ticket.getAuditLogs().add(auditLog);
+        }
+        statistics.clear();
+
+        // Act
+        ticketRepository.saveAndFlush(ticket);
+
+        // Assert
+        // One batched insert per table, plus at most one sequence call per table
+        assertEquals(40, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 4);
+    }
+
+    @Test
+    void find_WhenLoadedBefore_ShouldBeServedFromSecondLevelCache() {
+        // Arrange
+        // Entities are only cached once the transaction that inserted them has committed
+        Long ticketId = ticketRepository.findByStatus(Status.NEW).get(0).getId();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        try {
+            EntityManager loadingSession = entityManagerFactory.createEntityManager();
+            touchMappedAssociations(List.of(loadingSession.find(Ticket.class, ticketId)));
+            loadingSession.close();
+            statistics.clear();
+
+            // Act
+            EntityManager readingSession = entityManagerFactory.createEntityManager();
+            Ticket ticket = readingSession.find(Ticket.class, ticketId);
+            touchMappedAssociations(List.of(ticket));
+            readingSession.close();
+
+            // Assert
+            assertEquals(COMMENTS_PER_TICKET, ticket.getTicketComments().size());
+            assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+            assertEquals(0, statistics.getPrepareStatementCount());
+        } finally {
+            TestTransaction.start();
+            ticketRepository.deleteAll();
+            entityManager.remove(entityManager.find(User.class, employee.getId()));
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.enums.AuditStore;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditJournalStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private AuditJournalStore store;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        start = LocalDateTime.of(2024, 3, 1, 9, 0);
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    // About ten entries per segment and an index entry every second one
+    private AuditJournalStore open() throws IOException {
+        return new AuditJournalStore(new SimpleMeterRegistry(), AuditStore.JOURNAL, directory.toString(),
+                DataSize.ofBytes(1024), DataSize.ofBytes(128));
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        store = open();
+    }
+
+    private AuditEvent event(long ticketId, LocalDateTime createdDate) {
+        return new AuditEvent(ticketId, "STATUS_CHANGE", "NEW", "IN_PROGRESS", 2L, createdDate);
+    }
+
+    private List<AuditEvent> eventsPerMinute(int count) {
+        return IntStream.range(0, count).mapToObj(i -> event(i, start.plusMinutes(i))).toList();
+    }
+
+    private List<AuditEvent> scan(LocalDateTime from, LocalDateTime to) {
+        List<AuditEvent> events = new ArrayList<>();
+        store.scan(from, to, events::add);
+        return events;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    @Test
+    void append_ShouldReadBackEntriesWithinRange() {
+        // Arrange
+        AuditEvent comment = new AuditEvent(7L, "COMMENT_ADDED", null, "Drucker läuft wieder ✓", 3L,
+                start.plusSeconds(30).plusNanos(123_456_789));
+
+        // Act
+        store.append(List.of(event(1L, start), comment, event(2L, start.plusMinutes(5))));
+
+        // Assert
+        assertEquals(List.of(comment), scan(start.plusSeconds(1), start.plusMinutes(1)));
+        assertEquals(3, scan(null, null).size());
+        assertTrue(scan(start.plusMinutes(6), null).isEmpty());
+    }
+
+    @Test
+    void append_WhenSegmentIsFull_ShouldRotateAndKeepEntriesAfterReopen() throws IOException {
+        // Arrange
+        List<AuditEvent> events = eventsPerMinute(50);
+
+        // Act
+        store.append(events);
+        reopen();
+
+        // Assert
+        assertTrue(files(".seg").size() >= 4);
+        assertEquals(files(".seg").size() - 1, files(".idx").size());
+        assertEquals(events, scan(null, null));
+        assertEquals(events.subList(17, 34), scan(start.plusMinutes(17), start.plusMinutes(33)));
+        // Appends continue where the journal ended
+        store.append(List.of(event(99L, start.plusHours(2))));
+        assertEquals(51, scan(null, null).size());
+    }
+
+    @Test
+    void append_WhenFailedRotationLeftNextSegmentBehind_ShouldRotateIntoIt() throws IOException {
+        // Arrange: an earlier rotation created the next segment file, then failed to map it
+        List<AuditEvent> events = eventsPerMinute(15);
+        store.append(events.subList(0, 5));
+        Files.createFile(directory.resolve(String.format("%020d", 1) + ".seg"));
+
+        // Act
+        store.append(events.subList(5, 15));
+
+        // Assert
+        assertEquals(events, scan(null, null));
+        reopen();
+        assertEquals(2, files(".seg").size());
+        assertEquals(events, scan(null, null));
+    }
+
+    @Test
+    void append_WhenOlderThanPreviousEntry_ShouldKeepItInJournalOrder() {
+        // Act
+        store.append(List.of(event(1L, start.plusMinutes(10)), event(2L, start)));
+
+        // Assert: the late entry is found at the time of the one before it, its own time is kept
+        List<AuditEvent> events = scan(start.plusMinutes(10), start.plusMinutes(10));
+        assertEquals(List.of(1L, 2L), events.stream().map(AuditEvent::ticketId).toList());
+        assertEquals(start, events.get(1).createdDate());
+    }
+
+    @Test
+    void open_WhenLastEntryIsTorn_ShouldDropItAndAppendAfterPreviousEntry() throws IOException {
+        // Arrange: a crash left the last entry's payload half written
+        store.append(eventsPerMinute(3));
+        store.close();
+        Path segment = files(".seg").get(0);
+        long tornAt = sizeOfEntries(2);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(tornAt + 20);
+            file.write(new byte[] {0x7f, 0x7f, 0x7f});
+        }
+
+        // Act
+        store = open();
+        store.append(List.of(event(42L, start.plusMinutes(5))));
+
+        // Assert
+        assertEquals(List.of(0L, 1L, 42L), scan(null, null).stream().map(AuditEvent::ticketId).toList());
+        reopen();
+        assertEquals(List.of(0L, 1L, 42L), scan(null, null).stream().map(AuditEvent::ticketId).toList());
+    }
+
+    @Test
+    void scan_WhenSealedEntryIsCorrupt_ShouldThrowIllegalStateException() throws IOException {
+        // Arrange
+        store.append(eventsPerMinute(30));
+        store.close();
+        try (RandomAccessFile file = new RandomAccessFile(files(".seg").get(0).toFile(), "rw")) {
+            file.seek(16 + 40);
+            file.write(0x55);
+        }
+        store = open();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> scan(null, null));
+        // Ranges after the damaged segment are still readable
+        assertEquals(5, scan(start.plusMinutes(25), null).size());
+    }
+
+    private long sizeOfEntries(int count) {
+        return eventsPerMinute(count).stream().mapToLong(event -> 16 + AuditJournalStore.encode(event).remaining()).sum();
+    }
+}
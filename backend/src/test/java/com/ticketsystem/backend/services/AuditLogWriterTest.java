@@ -0,0 +1,273 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.AuditStore;
+import com.ticketsystem.backend.enums.AuditWriteMode;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private MeterRegistry meterRegistry;
+    private AuditJournalStore journalStore;
+    private AuditLogWriter writer;
+    private List<List<AuditLog>> savedBatches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(ticketRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Ticket ticket = new Ticket();
+            ticket.setId(invocation.getArgument(0));
+            return ticket;
+        });
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            User user = new User();
+            user.setId(invocation.getArgument(0));
+            return user;
+        });
+        savedBatches = new CopyOnWriteArrayList<>();
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> auditLogs = List.copyOf(invocation.getArgument(0));
+            savedBatches.add(auditLogs);
+            return auditLogs;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (writer != null) {
+            writer.shutdown();
+        }
+        if (journalStore != null) {
+            journalStore.close();
+        }
+    }
+
+    private AuditLogWriter writer(AuditWriteMode mode, int capacity) {
+        return writer(mode, capacity, AuditStore.DATABASE);
+    }
+
+    private AuditLogWriter writer(AuditWriteMode mode, int capacity, AuditStore store) {
+        try {
+            journalStore = new AuditJournalStore(meterRegistry, store, journalDirectory.toString(),
+                    DataSize.ofKilobytes(64), DataSize.ofKilobytes(1));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        writer = new AuditLogWriter(auditLogRepository, ticketRepository, userRepository, journalStore,
+                transactionManager, meterRegistry, mode, capacity, 100, Duration.ofSeconds(5));
+        return writer;
+    }
+
+    private List<AuditEvent> journaled() {
+        List<AuditEvent> events = new ArrayList<>();
+        journalStore.scan(null, null, events::add);
+        return events;
+    }
+
+    private static AuditEvent event(long ticketId) {
+        return new AuditEvent(ticketId, "STATUS_CHANGE", "NEW", "RESOLVED", 2L, LocalDateTime.now());
+    }
+
+    @Test
+    void record_InSyncMode_ShouldSaveInCallersTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        writer(AuditWriteMode.SYNC, 10).record(event(1L));
+
+        // Assert
+        assertEquals(1, savedBatches.size());
+        AuditLog saved = savedBatches.get(0).get(0);
+        assertEquals(1L, saved.getTicket().getId());
+        assertEquals(2L, saved.getPerformedBy().getId());
+        assertEquals("RESOLVED", saved.getNewValue());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void record_InAsyncMode_ShouldWriteInBackground() {
+        // Act
+        writer(AuditWriteMode.ASYNC, 10).record(List.of(event(1L), event(2L), event(3L)));
+
+        // Assert
+        verify(auditLogRepository, timeout(5000).atLeastOnce()).saveAll(anyList());
+        await(() -> meterRegistry.get("ticketsystem.audit.written").counter().count() == 3.0);
+        assertEquals(3, savedBatches.stream().mapToInt(List::size).sum());
+        assertEquals(0, writer.queuedCount());
+    }
+
+    @Test
+    void record_InAsyncModeInsideTransaction_ShouldQueueOnlyAfterCommit() throws InterruptedException {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        AuditLogWriter asyncWriter = writer(AuditWriteMode.ASYNC, 10);
+
+        // Act
+        asyncWriter.record(event(1L));
+        asyncWriter.record(event(2L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(savedBatches.isEmpty());
+        synchronizations.get(0).afterCommit();
+        // The second transaction rolls back, its synchronization never sees afterCommit
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        await(() -> !savedBatches.isEmpty());
+        asyncWriter.shutdown();
+        assertEquals(1, savedBatches.size());
+        assertEquals(1L, savedBatches.get(0).get(0).getTicket().getId());
+    }
+
+    @Test
+    void record_WhenQueueIsFull_ShouldWriteOnCallingThread() throws InterruptedException {
+        // Arrange: the writer thread blocks in its first batch until released
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> savingThreads = new CopyOnWriteArrayList<>();
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savingThreads.add(Thread.currentThread().getName());
+            if (Thread.currentThread().getName().equals("audit-writer") && writerBlocked.getCount() > 0) {
+                writerBlocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.getArgument(0);
+        });
+        AuditLogWriter asyncWriter = writer(AuditWriteMode.ASYNC, 1);
+        asyncWriter.record(event(1L));
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+
+        // Act
+        asyncWriter.record(event(2L));
+        asyncWriter.record(event(3L));
+
+        // Assert
+        assertEquals(1, asyncWriter.queuedCount());
+        assertEquals(List.of("audit-writer", Thread.currentThread().getName()), savingThreads);
+        assertEquals(1.0, meterRegistry.get("ticketsystem.audit.backpressure").counter().count());
+        release.countDown();
+        asyncWriter.shutdown();
+        assertEquals(0, asyncWriter.queuedCount());
+        assertEquals(3, savingThreads.size());
+    }
+
+    @Test
+    void write_WhenBatchFails_ShouldRetryEntriesOneByOne() {
+        // Arrange: any batch holding ticket 2 fails
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> auditLogs = List.copyOf(invocation.getArgument(0));
+            if (auditLogs.stream().anyMatch(auditLog -> auditLog.getTicket().getId() == 2L)) {
+                throw new IllegalStateException("constraint violated");
+            }
+            savedBatches.add(auditLogs);
+            return auditLogs;
+        });
+
+        // Act
+        writer(AuditWriteMode.ASYNC, 10).record(List.of(event(1L), event(2L), event(3L)));
+
+        // Assert
+        await(() -> meterRegistry.get("ticketsystem.audit.failed").counter().count() == 1.0
+                && meterRegistry.get("ticketsystem.audit.written").counter().count() == 2.0);
+        assertEquals(2, savedBatches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void record_InAsyncModeWithJournalStore_ShouldJournalAfterCommitWithoutDatabase() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        AuditLogWriter journalWriter = writer(AuditWriteMode.ASYNC, 10, AuditStore.JOURNAL);
+
+        // Act
+        journalWriter.record(List.of(event(1L), event(2L)));
+        List<AuditEvent> beforeCommit = journaled();
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+
+        // Assert
+        assertTrue(beforeCommit.isEmpty());
+        assertEquals(List.of(1L, 2L), journaled().stream().map(AuditEvent::ticketId).toList());
+        verifyNoInteractions(auditLogRepository);
+    }
+
+    @Test
+    void record_InSyncModeWithBothStores_ShouldSaveAndJournalBeforeCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        AuditLogWriter syncWriter = writer(AuditWriteMode.SYNC, 10, AuditStore.BOTH);
+
+        // Act
+        syncWriter.record(event(1L));
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+
+        // Assert
+        assertEquals(1, savedBatches.size());
+        assertEquals(1, journaled().size());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 seconds");
+            Thread.onSpinWait();
+        }
+    }
+}
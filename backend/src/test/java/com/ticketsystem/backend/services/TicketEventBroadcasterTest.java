@@ -0,0 +1,112 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.CachedUser;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.TicketEventType;
+import com.ticketsystem.backend.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketEventBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 2;
+
+    @Mock
+    private UserLookupCache userLookupCache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final CountDownLatch releaseSlowClient = new CountDownLatch(1);
+    private final BlockingQueue<SseEmitter.SseEventBuilder> delivered = new LinkedBlockingQueue<>();
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private TicketEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Heartbeats far in the future so only the ticket events are sent
+        broadcaster = new TicketEventBroadcaster(userLookupCache, userRepository,
+                Duration.ofMinutes(30), Duration.ofHours(1), QUEUE_CAPACITY) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.removeFirst();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowClient.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void onTicketChanged_WhenOneClientStalls_ShouldKeepDeliveringToOthersAndDropIt() throws InterruptedException {
+        // Arrange
+        CountDownLatch slowClientBlocked = new CountDownLatch(1);
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                slowClientBlocked.countDown();
+                try {
+                    releaseSlowClient.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        emitters.add(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.add(builder);
+            }
+        });
+        subscribe(1L);
+        subscribe(2L);
+
+        // Act & Assert
+        broadcaster.onTicketChanged(changed(1L));
+        assertTrue(slowClientBlocked.await(5, TimeUnit.SECONDS));
+        assertNotNull(delivered.poll(5, TimeUnit.SECONDS));
+        // The stalled client's queue holds the next two events, the one after that overflows it
+        for (long id = 2; id <= 2 + QUEUE_CAPACITY; id++) {
+            broadcaster.onTicketChanged(changed(id));
+            assertNotNull(delivered.poll(5, TimeUnit.SECONDS), "event " + id + " not delivered");
+        }
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    private void subscribe(Long userId) {
+        when(userLookupCache.get(eq(userId), any()))
+                .thenReturn(Optional.of(new CachedUser(userId, "support" + userId, Role.ROLE_IT_SUPPORT)));
+        broadcaster.subscribe(userId);
+    }
+
+    private TicketEventBroadcaster.TicketChanged changed(Long ticketId) {
+        TicketDTO ticket = new TicketDTO();
+        ticket.setId(ticketId);
+        ticket.setCreatedById(3L);
+        return new TicketEventBroadcaster.TicketChanged(TicketEventType.STATUS_CHANGED, ticket);
+    }
+}
@@ -0,0 +1,255 @@
+package com.ticketsystem.backend.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.ExportFormat;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.AuditLogWriter.AuditEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TicketExportServiceImplTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AuditJournalStore auditJournalStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TicketExportServiceImpl exportService;
+    private User employee;
+    private User itSupport;
+    private LocalDateTime created;
+
+    @BeforeEach
+    void setUp() {
+        employee = new User();
+        employee.setId(1L);
+        employee.setUsername("employee");
+        employee.setRole(Role.ROLE_EMPLOYEE);
+
+        itSupport = new User();
+        itSupport.setId(2L);
+        itSupport.setUsername("support");
+        itSupport.setRole(Role.ROLE_IT_SUPPORT);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(itSupport));
+
+        created = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+        exportService = exportService(1000);
+    }
+
+    private TicketExportServiceImpl exportService(int clearInterval) {
+        return new TicketExportServiceImpl(ticketRepository, auditLogRepository, userRepository,
+                new UserLookupCache(100, Duration.ofMinutes(1)), auditJournalStore, transactionManager, entityManager,
+                objectMapper, clearInterval);
+    }
+
+    private Ticket ticket(long id, String title, String description) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setDescription(description);
+        ticket.setPriority(Priority.HIGH);
+        ticket.setCategory(Category.NETWORK);
+        ticket.setStatus(Status.NEW);
+        ticket.setCreatedDate(created);
+        ticket.setLastUpdated(created);
+        ticket.setCreatedBy(employee);
+        return ticket;
+    }
+
+    @Test
+    void exportTickets_Csv_ShouldWriteHeaderAndQuoteSpecialCharacters() throws Exception {
+        // Arrange
+        when(ticketRepository.streamForExport(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Stream.of(ticket(1L, "Printer, 2nd floor", "Says \"offline\"\nafter restart"),
+                        ticket(2L, "VPN", "Cannot connect")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportTickets(new TicketPageRequest(), ExportFormat.CSV, 2L).writeTo(output);
+
+        // Assert
+        assertEquals("id,title,description,priority,category,status,createdDate,lastUpdated,createdById\r\n"
+                        + "1,\"Printer, 2nd floor\",\"Says \"\"offline\"\"\nafter restart\",HIGH,NETWORK,NEW,"
+                        + "2024-03-01T09:30:15,2024-03-01T09:30:15,1\r\n"
+                        + "2,VPN,Cannot connect,HIGH,NETWORK,NEW,2024-03-01T09:30:15,2024-03-01T09:30:15,1\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportTickets_Ndjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        when(ticketRepository.streamForExport(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Stream.of(ticket(1L, "First", "Line one\nline two"), ticket(2L, "Second", null)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportTickets(new TicketPageRequest(), ExportFormat.NDJSON, 2L).writeTo(output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Line one\nline two", first.get("description").asText());
+        assertEquals("HIGH", first.get("priority").asText());
+        assertEquals("2024-03-01T09:30:15", first.get("createdDate").asText());
+        assertEquals(1, first.get("createdById").asLong());
+        assertTrue(objectMapper.readTree(lines[1]).get("description").isNull());
+    }
+
+    @Test
+    void exportTickets_AsEmployee_ShouldOnlyExportOwnTickets() throws Exception {
+        // Arrange
+        TicketPageRequest filter = new TicketPageRequest();
+        filter.setCreatedById(2L);
+        filter.setStatus(Status.NEW);
+        when(ticketRepository.streamForExport(any(), any(), any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        // Act
+        exportService.exportTickets(filter, ExportFormat.CSV, 1L).writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        verify(ticketRepository).streamForExport(eq(Status.NEW), isNull(), isNull(), eq(1L), isNull(), isNull());
+    }
+
+    @Test
+    void exportTickets_ShouldClearPersistenceContextPeriodicallyAndCloseStream() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(ticketRepository.streamForExport(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Stream.of(ticket(1L, "A", "A"), ticket(2L, "B", "B"), ticket(3L, "C", "C"),
+                        ticket(4L, "D", "D"), ticket(5L, "E", "E")).onClose(() -> closed.set(true)));
+
+        // Act
+        exportService(2).exportTickets(new TicketPageRequest(), ExportFormat.NDJSON, 2L)
+                .writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        verify(entityManager, times(2)).clear();
+        assertTrue(closed.get());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportAuditLogs_Ndjson_ShouldWriteEntries() throws Exception {
+        // Arrange
+        AuditLog auditLog = new AuditLog(7L, "STATUS_CHANGE", "NEW", "IN_PROGRESS", created,
+                ticket(1L, "Title", "Description"), itSupport);
+        when(auditLogRepository.streamForExport(any(), any(), any(), any(), any())).thenReturn(Stream.of(auditLog));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportAuditLogs(new AuditLogPageRequest(), ExportFormat.NDJSON, 2L).writeTo(output);
+
+        // Assert
+        JsonNode entry = objectMapper.readTree(output.toString(StandardCharsets.UTF_8).trim());
+        assertEquals(7, entry.get("id").asLong());
+        assertEquals(1, entry.get("ticketId").asLong());
+        assertEquals("IN_PROGRESS", entry.get("newValue").asText());
+        assertEquals(2, entry.get("performedById").asLong());
+    }
+
+    @Test
+    void exportAuditLogs_AsEmployee_ShouldThrowUnauthorizedAccessException() {
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class,
+                () -> exportService.exportAuditLogs(new AuditLogPageRequest(), ExportFormat.CSV, 1L));
+        verify(auditLogRepository, never()).streamForExport(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void exportAuditJournal_Csv_ShouldWriteMatchingEntriesOfRange() throws Exception {
+        // Arrange
+        when(auditJournalStore.isEnabled()).thenReturn(true);
+        when(auditJournalStore.scan(any(), any(), any())).thenAnswer(invocation -> {
+            Predicate<AuditEvent> visitor = invocation.getArgument(2);
+            visitor.test(new AuditEvent(1L, "STATUS_CHANGE", "NEW", "IN_PROGRESS", 2L, created));
+            visitor.test(new AuditEvent(3L, "STATUS_CHANGE", "NEW", "RESOLVED", 2L, created));
+            visitor.test(new AuditEvent(1L, "COMMENT_ADDED", null, "Rebooted", 2L, created));
+            return 3L;
+        });
+        AuditLogPageRequest filter = new AuditLogPageRequest();
+        filter.setTicketId(1L);
+        filter.setFrom(created.minusDays(1));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportAuditJournal(filter, ExportFormat.CSV, 2L).writeTo(output);
+
+        // Assert
+        assertEquals("ticketId,action,oldValue,newValue,performedById,createdDate\r\n"
+                        + "1,STATUS_CHANGE,NEW,IN_PROGRESS,2,2024-03-01T09:30:15\r\n"
+                        + "1,COMMENT_ADDED,,Rebooted,2,2024-03-01T09:30:15\r\n",
+                output.toString(StandardCharsets.UTF_8));
+        verify(auditJournalStore).scan(eq(created.minusDays(1)), isNull(), any());
+    }
+
+    @Test
+    void exportAuditJournal_WhenJournalDisabled_ShouldThrowInvalidTicketDataException() {
+        // Arrange
+        when(auditJournalStore.isEnabled()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(InvalidTicketDataException.class,
+                () -> exportService.exportAuditJournal(new AuditLogPageRequest(), ExportFormat.NDJSON, 2L));
+        verify(auditJournalStore, never()).scan(any(), any(), any());
+    }
+}
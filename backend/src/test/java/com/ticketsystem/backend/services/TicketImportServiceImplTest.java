@@ -0,0 +1,311 @@
+package com.ticketsystem.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketImportResultDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.ImportFormat;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TicketImportServiceImplTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketMapper ticketMapper;
+
+    @Mock
+    private TicketSearchService ticketSearchService;
+
+    @Mock
+    private TicketStatusCounters ticketStatusCounters;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private User itSupport;
+    private User employee;
+    private List<List<Ticket>> savedBatches;
+
+    @BeforeEach
+    void setUp() {
+        itSupport = new User();
+        itSupport.setId(2L);
+        itSupport.setUsername("support");
+        itSupport.setRole(Role.ROLE_IT_SUPPORT);
+
+        employee = new User();
+        employee.setId(1L);
+        employee.setUsername("employee");
+        employee.setRole(Role.ROLE_EMPLOYEE);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(itSupport));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(userRepository.getReferenceById(2L)).thenReturn(itSupport);
+
+        when(ticketMapper.toEntity(any(TicketDTO.class))).thenAnswer(invocation -> {
+            TicketDTO dto = invocation.getArgument(0);
+            Ticket ticket = new Ticket();
+            ticket.setId(dto.getId());
+            ticket.setTitle(dto.getTitle());
+            ticket.setDescription(dto.getDescription());
+            ticket.setPriority(dto.getPriority());
+            ticket.setCategory(dto.getCategory());
+            return ticket;
+        });
+
+        savedBatches = new ArrayList<>();
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = new ArrayList<>(invocation.getArgument(0));
+            savedBatches.add(tickets);
+            return tickets;
+        });
+    }
+
+    private TicketImportServiceImpl service(int batchSize, int maxReportedErrors) {
+        return new TicketImportServiceImpl(ticketRepository, userRepository,
+                new UserLookupCache(100, Duration.ofMinutes(1)), ticketMapper, ticketSearchService,
+                ticketStatusCounters, transactionManager, entityManager, objectMapper, batchSize, maxReportedErrors);
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String jsonTicket(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Description\",\"priority\":\"HIGH\",\"category\":\"NETWORK\"}";
+    }
+
+    @Test
+    void importTickets_JsonWithInvalidRows_ShouldImportValidRowsAndReportErrors() {
+        // Arrange
+        String json = "[" + jsonTicket("First") + ","
+                + "{\"title\":\"\",\"description\":\"Description\",\"priority\":\"HIGH\",\"category\":\"NETWORK\"},"
+                + "{\"title\":\"Bad\",\"description\":\"Description\",\"priority\":\"URGENT\",\"category\":\"NETWORK\"},"
+                + jsonTicket("Second") + "]";
+
+        // Act
+        TicketImportResultDTO result = service(100, 100).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(4, result.getRowCount());
+        assertEquals(2, result.getImportedCount());
+        assertEquals(2, result.getRejectedCount());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Title is required"));
+        assertEquals(3, result.getErrors().get(1).getRow());
+        assertFalse(result.isErrorsTruncated());
+
+        Ticket imported = savedBatches.get(0).get(0);
+        assertEquals("First", imported.getTitle());
+        assertEquals(Status.NEW, imported.getStatus());
+        assertEquals(itSupport, imported.getCreatedBy());
+        assertNotNull(imported.getCreatedDate());
+    }
+
+    @Test
+    void importTickets_WithIds_ShouldAlwaysCreateNewTickets() {
+        // Arrange
+        String json = "[{\"id\":5,\"title\":\"Title\",\"description\":\"Description\",\"priority\":\"LOW\",\"category\":\"HARDWARE\"}]";
+
+        // Act
+        service(100, 100).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertNull(savedBatches.get(0).get(0).getId());
+    }
+
+    @Test
+    void importTickets_Csv_ShouldReadQuotedFields() {
+        // Arrange
+        String csv = "\uFEFFTitle,Description,Priority,Category,Status,CreatedDate\r\n"
+                + "\"Printer, 2nd floor\",\"Says \"\"offline\"\"\nafter restart\",medium,hardware,IN_PROGRESS,2024-03-01T09:30:00\r\n"
+                + "\r\n"
+                + "VPN,Cannot connect,high,network,,\r\n";
+
+        // Act
+        TicketImportResultDTO result = service(100, 100).importTickets(input(csv), ImportFormat.CSV, 2L);
+
+        // Assert
+        assertEquals(2, result.getImportedCount());
+        assertEquals(0, result.getRejectedCount());
+        Ticket printer = savedBatches.get(0).get(0);
+        assertEquals("Printer, 2nd floor", printer.getTitle());
+        assertEquals("Says \"offline\"\nafter restart", printer.getDescription());
+        assertEquals(Priority.MEDIUM, printer.getPriority());
+        assertEquals(Category.HARDWARE, printer.getCategory());
+        assertEquals(Status.IN_PROGRESS, printer.getStatus());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 30), printer.getCreatedDate());
+        assertEquals(Status.NEW, savedBatches.get(0).get(1).getStatus());
+        verify(ticketStatusCounters).record(Map.of(Status.IN_PROGRESS, 1L, Status.NEW, 1L));
+    }
+
+    @Test
+    void importTickets_CsvWithoutRequiredColumn_ShouldRejectInput() {
+        // Act
+        TicketImportResultDTO result = service(100, 100)
+                .importTickets(input("title,description,priority\nA,B,LOW\n"), ImportFormat.CSV, 2L);
+
+        // Assert
+        assertEquals(0, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertTrue(result.getErrors().get(0).getMessage().contains("category"));
+        verify(ticketRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importTickets_ShouldStoreRowsInBatchesOfConfiguredSize() {
+        // Arrange
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 5; i++) {
+            json.append(i > 0 ? "," : "").append(jsonTicket("Ticket " + i));
+        }
+        json.append("]");
+
+        // Act
+        TicketImportResultDTO result = service(2, 100).importTickets(input(json.toString()), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(5, result.getImportedCount());
+        assertEquals(List.of(2, 2, 1), savedBatches.stream().map(List::size).toList());
+        verify(transactionManager, times(3)).commit(any());
+        verify(ticketSearchService, times(3)).indexTickets(any());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void importTickets_WhenBatchFails_ShouldRejectOnlyFailingRows() {
+        // Arrange
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+            if (tickets.stream().anyMatch(ticket -> ticket.getTitle().equals("Too long"))) {
+                throw new DataIntegrityViolationException("value too large for column");
+            }
+            savedBatches.add(new ArrayList<>(tickets));
+            return tickets;
+        });
+        String json = "[" + jsonTicket("First") + "," + jsonTicket("Too long") + "," + jsonTicket("Third") + "]";
+
+        // Act
+        TicketImportResultDTO result = service(10, 100).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(2, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessage().contains("value too large"));
+    }
+
+    @Test
+    void importTickets_ShouldTimeOutBatchTransactions() {
+        // Act
+        service(100, 100).importTickets(input("[" + jsonTicket("First") + "]"), ImportFormat.JSON, 2L);
+
+        // Assert
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.getTimeout() == TicketServiceImpl.WRITE_TIMEOUT_SECONDS));
+    }
+
+    @Test
+    void importTickets_WhenIndexingFails_ShouldStoreEachBatchOnce() {
+        // Arrange
+        doThrow(new IllegalStateException("index unavailable")).when(ticketSearchService).indexTickets(any());
+        String json = "[" + jsonTicket("First") + "," + jsonTicket("Second") + "," + jsonTicket("Third") + "]";
+
+        // Act
+        TicketImportResultDTO result = service(2, 100).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(3, result.getImportedCount());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals(List.of(2, 1), savedBatches.stream().map(List::size).toList());
+        verify(ticketSearchService, times(2)).indexTickets(any());
+    }
+
+    @Test
+    void importTickets_MalformedJson_ShouldKeepRowsReadBefore() {
+        // Arrange
+        String json = "[" + jsonTicket("First") + "," + jsonTicket("Second") + ",{\"title\": ";
+
+        // Act
+        TicketImportResultDTO result = service(100, 100).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(2, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Malformed input"));
+    }
+
+    @Test
+    void importTickets_ManyInvalidRows_ShouldTruncateReportedErrors() {
+        // Arrange
+        String json = "[{},{},{},{}]";
+
+        // Act
+        TicketImportResultDTO result = service(100, 2).importTickets(input(json), ImportFormat.JSON, 2L);
+
+        // Assert
+        assertEquals(4, result.getRejectedCount());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    @Test
+    void importTickets_AsEmployee_ShouldThrowUnauthorizedAccessException() {
+        // Arrange
+        TicketImportServiceImpl service = service(100, 100);
+        InputStream json = input("[" + jsonTicket("First") + "]");
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class,
+                () -> service.importTickets(json, ImportFormat.JSON, 1L));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
@@ -0,0 +1,306 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.CommentDTO;
+import com.ticketsystem.backend.dtos.SearchIndexStatsDTO;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketSearchPageDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.TicketComment;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.TicketEventType;
+import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.TicketEventBroadcaster.TicketChanged;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TicketSearchServiceImplTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TicketSearchServiceImpl searchService;
+    private User employee;
+    private User itSupport;
+
+    @BeforeEach
+    void setUp() {
+        employee = new User();
+        employee.setId(1L);
+        employee.setUsername("employee");
+        employee.setRole(Role.ROLE_EMPLOYEE);
+
+        itSupport = new User();
+        itSupport.setId(2L);
+        itSupport.setUsername("support");
+        itSupport.setRole(Role.ROLE_IT_SUPPORT);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(itSupport));
+
+        // Summaries come back in reverse order, the ranking must not depend on the database
+        when(ticketRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<TicketSummaryDTO> summaries = new ArrayList<>();
+            for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                TicketSummaryDTO summary = new TicketSummaryDTO();
+                summary.setId(id);
+                summary.setTitle("Ticket " + id);
+                summaries.add(0, summary);
+            }
+            return summaries;
+        });
+
+        searchService = searchService(500);
+    }
+
+    private TicketSearchServiceImpl searchService(int rebuildBatchSize) {
+        return new TicketSearchServiceImpl(ticketRepository, userRepository,
+                new UserLookupCache(100, Duration.ofMinutes(1)), transactionManager, entityManager,
+                rebuildBatchSize, false);
+    }
+
+    private static TicketDTO ticketDTO(long id, Long createdById, String title, String description, String... comments) {
+        TicketDTO ticketDTO = new TicketDTO();
+        ticketDTO.setId(id);
+        ticketDTO.setCreatedById(createdById);
+        ticketDTO.setTitle(title);
+        ticketDTO.setDescription(description);
+        for (String comment : comments) {
+            ticketDTO.getTicketComments().add(new CommentDTO(null, comment, null, createdById));
+        }
+        return ticketDTO;
+    }
+
+    private Ticket ticket(long id, String title, String description, String... comments) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setDescription(description);
+        ticket.setCreatedBy(employee);
+        for (String content : comments) {
+            TicketComment comment = new TicketComment();
+            comment.setContent(content);
+            ticket.getTicketComments().add(comment);
+        }
+        return ticket;
+    }
+
+    private static List<Long> ticketIds(TicketSearchPageDTO page) {
+        return page.getHits().stream().map(hit -> hit.getTicket().getId()).toList();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        // Arrange
+        searchService.indexTickets(List.of(
+                ticketDTO(1L, 1L, "Laptop fan is loud", "The printer next to my desk is fine, the laptop is not"),
+                ticketDTO(2L, 1L, "Printer offline", "Nothing prints since this morning"),
+                ticketDTO(3L, 1L, "VPN drops", "Disconnects every hour")));
+
+        // Act
+        TicketSearchPageDTO page = searchService.search("printer", null, null, 2L);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ticketIds(page));
+        assertEquals(2, page.getTotalHits());
+        assertFalse(page.isHasMore());
+        assertEquals("Ticket 2", page.getHits().get(0).getTicket().getTitle());
+        assertTrue(page.getHits().get(0).getScore() > page.getHits().get(1).getScore());
+    }
+
+    @Test
+    void search_ShouldRankTicketsMatchingMoreTermsFirst() {
+        // Arrange
+        searchService.indexTickets(List.of(
+                ticketDTO(1L, 1L, "Outlook crashes", "Crashes when opening attachments"),
+                ticketDTO(2L, 1L, "Outlook slow", "Takes minutes to start"),
+                ticketDTO(3L, 1L, "Excel crashes", "Crashes on large files")));
+
+        // Act
+        TicketSearchPageDTO page = searchService.search("Outlook CRASHES!", null, null, 2L);
+
+        // Assert
+        assertEquals(1L, ticketIds(page).get(0));
+        assertEquals(3, page.getTotalHits());
+    }
+
+    @Test
+    void search_AsEmployee_ShouldOnlyFindOwnTickets() {
+        // Arrange
+        searchService.indexTickets(List.of(
+                ticketDTO(1L, 1L, "Monitor flickers", "Since the update"),
+                ticketDTO(2L, 3L, "Monitor broken", "Cracked screen")));
+
+        // Act
+        TicketSearchPageDTO page = searchService.search("monitor", null, null, 1L);
+
+        // Assert
+        assertEquals(List.of(1L), ticketIds(page));
+        assertEquals(1, page.getTotalHits());
+    }
+
+    @Test
+    void search_ShouldPageThroughHits() {
+        // Arrange
+        List<TicketDTO> tickets = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            tickets.add(ticketDTO(id, 1L, "Password reset " + id, "Locked out"));
+        }
+        searchService.indexTickets(tickets);
+
+        // Act
+        TicketSearchPageDTO first = searchService.search("password", 0, 2, 2L);
+        TicketSearchPageDTO last = searchService.search("password", 2, 2, 2L);
+
+        // Assert
+        // Equal scores rank the newest ticket first
+        assertEquals(List.of(5L, 4L), ticketIds(first));
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(1L), ticketIds(last));
+        assertFalse(last.isHasMore());
+        assertEquals(5, last.getTotalHits());
+    }
+
+    @Test
+    void onTicketChanged_ShouldIndexNewCommentsButSkipStatusChanges() {
+        // Arrange
+        searchService.indexTickets(List.of(ticketDTO(1L, 1L, "Printer offline", "No output")));
+
+        // Act
+        searchService.onTicketChanged(new TicketChanged(TicketEventType.COMMENT_ADDED,
+                ticketDTO(1L, 1L, "Printer offline", "No output", "Replaced the toner cartridge")));
+        searchService.onTicketChanged(new TicketChanged(TicketEventType.STATUS_CHANGED,
+                ticketDTO(1L, 1L, "Printer offline", "No output")));
+
+        // Assert
+        assertEquals(List.of(1L), ticketIds(searchService.search("toner", null, null, 2L)));
+        assertEquals(1, searchService.search("printer", null, null, 2L).getTotalHits());
+    }
+
+    @Test
+    void indexTickets_ReindexedManyTimes_ShouldOnlyMatchLatestText() {
+        // Arrange
+        searchService.indexTickets(List.of(ticketDTO(2L, 1L, "Keyboard sticky", "Coffee spill")));
+
+        // Act
+        // Enough versions to drop the deleted ones from the postings
+        for (int version = 0; version < 3000; version++) {
+            searchService.indexTickets(List.of(ticketDTO(1L, 1L, "Docking station", "Version v" + version)));
+        }
+
+        // Assert
+        assertEquals(List.of(1L), ticketIds(searchService.search("docking", null, null, 2L)));
+        assertEquals(1, searchService.search("v2999", null, null, 2L).getTotalHits());
+        assertEquals(0, searchService.search("v0", null, null, 2L).getTotalHits());
+        assertEquals(List.of(2L), ticketIds(searchService.search("coffee", null, null, 2L)));
+    }
+
+    @Test
+    void search_BlankQuery_ShouldThrowInvalidTicketData() {
+        // Act & Assert
+        assertThrows(InvalidTicketDataException.class, () -> searchService.search("  ", null, null, 2L));
+        verify(ticketRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void search_BeyondResultWindow_ShouldThrowInvalidTicketData() {
+        // Act & Assert
+        assertThrows(InvalidTicketDataException.class, () -> searchService.search("printer", 100, 100, 2L));
+    }
+
+    @Test
+    void search_WithoutMatches_ShouldNotQueryDatabase() {
+        // Act
+        TicketSearchPageDTO page = searchService.search("nothing", null, null, 2L);
+
+        // Assert
+        assertEquals(0, page.getTotalHits());
+        assertTrue(page.getHits().isEmpty());
+        verify(ticketRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void rebuildIndex_ShouldReadTicketsInBatches() {
+        // Arrange
+        searchService = searchService(2);
+        when(ticketRepository.findIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(ticketRepository.findIdsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(3L));
+        when(ticketRepository.findIdsAfter(eq(3L), any(Pageable.class))).thenReturn(List.of());
+        when(ticketRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                ticket(1L, "Mouse broken", "Left button"),
+                ticket(2L, "Headset", "Microphone muted", "Driver update fixed the microphone")));
+        when(ticketRepository.findByIdIn(List.of(3L))).thenReturn(List.of(ticket(3L, "Mouse lag", "Wireless")));
+
+        // Act
+        SearchIndexStatsDTO stats = searchService.rebuildIndex(2L);
+
+        // Assert
+        assertEquals(3, stats.getTicketCount());
+        verify(entityManager, times(2)).clear();
+        assertEquals(List.of(2L), ticketIds(searchService.search("driver", null, null, 2L)));
+        assertEquals(2, searchService.search("mouse", null, null, 2L).getTotalHits());
+    }
+
+    @Test
+    void rebuildIndex_ShouldKeepTicketsChangedWhileRunning() {
+        // Arrange
+        searchService.indexTickets(List.of(ticketDTO(9L, 1L, "Stale entry", "Deleted from the database")));
+        when(ticketRepository.findIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(1L));
+        when(ticketRepository.findByIdIn(List.of(1L))).thenAnswer(invocation -> {
+            // A ticket committed after the rebuild read past its ID
+            searchService.indexTickets(List.of(ticketDTO(2L, 1L, "Scanner jammed", "Paper stuck")));
+            return List.of(ticket(1L, "Mouse broken", "Left button"));
+        });
+        when(ticketRepository.findIdsAfter(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        searchService.rebuildIndex();
+
+        // Assert
+        assertEquals(List.of(2L), ticketIds(searchService.search("scanner", null, null, 2L)));
+        assertEquals(List.of(1L), ticketIds(searchService.search("mouse", null, null, 2L)));
+        assertEquals(0, searchService.search("stale", null, null, 2L).getTotalHits());
+    }
+
+    @Test
+    void rebuildIndex_AsEmployee_ShouldThrowUnauthorizedAccess() {
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> searchService.rebuildIndex(1L));
+        verify(ticketRepository, never()).findIdsAfter(any(), any());
+    }
+}
@@ -1,13 +1,30 @@
 package com.ticketsystem.backend.services;
 
 import com.ticketsystem.backend.dtos.AuditLogDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageDTO;
+import com.ticketsystem.backend.dtos.AuditLogPageRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeRequest;
+import com.ticketsystem.backend.dtos.BulkStatusChangeResultDTO;
+import com.ticketsystem.backend.dtos.OpenTicketAgeDTO;
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.dtos.TicketChangesDTO;
+import com.ticketsystem.backend.dtos.TicketCountDTO;
 import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.dtos.TicketPageDTO;
+import com.ticketsystem.backend.dtos.TicketPageRequest;
+import com.ticketsystem.backend.dtos.TicketStatsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusCountsDTO;
+import com.ticketsystem.backend.dtos.TicketStatusDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryDTO;
+import com.ticketsystem.backend.dtos.TicketSummaryPageDTO;
 import com.ticketsystem.backend.entities.Ticket;
 import com.ticketsystem.backend.entities.User;
 import com.ticketsystem.backend.enums.Category;
 import com.ticketsystem.backend.enums.Priority;
 import com.ticketsystem.backend.enums.Role;
 import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.enums.StatusChangeOutcome;
+import com.ticketsystem.backend.enums.TicketEventType;
 import com.ticketsystem.backend.exceptions.InvalidTicketDataException;
 import com.ticketsystem.backend.exceptions.TicketNotFoundException;
 import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
@@ -15,24 +32,35 @@ import com.ticketsystem.backend.exceptions.UserNotFoundException;
 import com.ticketsystem.backend.mappers.AuditLogMapper;
 import com.ticketsystem.backend.mappers.CommentMapper;
 import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
 import com.ticketsystem.backend.repositories.TicketRepository;
 import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.util.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +73,18 @@ public class TicketServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Spy
+    private UserLookupCache userLookupCache = new UserLookupCache(100, Duration.ofMinutes(1));
+
+    @Mock
+    private TicketStatusCounters ticketStatusCounters;
+
     @Mock
     private TicketMapper ticketMapper;
 
@@ -54,6 +94,12 @@ public class TicketServiceImplTest {
     @Mock
     private AuditLogMapper auditLogMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TicketEventBroadcaster ticketEventBroadcaster;
+
     @InjectMocks
     private TicketServiceImpl ticketService;
 
@@ -116,6 +162,8 @@ public class TicketServiceImplTest {
         assertNotNull(result);
         assertEquals(ticketDTO.getTitle(), result.getTitle());
         verify(ticketRepository).save(any(Ticket.class));
+        verify(ticketStatusCounters).recordCreated(Status.NEW);
+        verify(eventPublisher).publishEvent(new TicketEventBroadcaster.TicketChanged(TicketEventType.CREATED, ticketDTO));
     }
 
     @Test
@@ -155,6 +203,14 @@ public class TicketServiceImplTest {
         // Assert
         assertNotNull(result);
         verify(ticketRepository).save(any(Ticket.class));
+        verify(ticketStatusCounters).recordStatusChange(Status.NEW, Status.IN_PROGRESS);
+        ArgumentCaptor<AuditLogWriter.AuditEvent> auditEvent = ArgumentCaptor.forClass(AuditLogWriter.AuditEvent.class);
+        verify(auditLogWriter).record(auditEvent.capture());
+        assertEquals("NEW", auditEvent.getValue().oldValue());
+        assertEquals("IN_PROGRESS", auditEvent.getValue().newValue());
+        assertEquals(itSupport.getId(), auditEvent.getValue().performedById());
+        assertTrue(ticket.getAuditLogs().isEmpty());
+        verify(eventPublisher).publishEvent(new TicketEventBroadcaster.TicketChanged(TicketEventType.STATUS_CHANGED, ticketDTO));
     }
 
     @Test
@@ -168,6 +224,102 @@ public class TicketServiceImplTest {
         });
     }
 
+    @Test
+    void updateStatuses_WithITSupport_ShouldUpdateChangedTicketsInBulk() {
+        // Arrange
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findStatusesForUpdate(any())).thenReturn(List.of(
+                new TicketStatusDTO(1L, Status.NEW), new TicketStatusDTO(3L, Status.RESOLVED)));
+        when(ticketEventBroadcaster.subscriberCount()).thenReturn(1);
+        when(ticketRepository.findByIdIn(List.of(1L))).thenReturn(List.of(ticket));
+        when(ticketMapper.toDTOList(List.of(ticket))).thenReturn(List.of(ticketDTO));
+        BulkStatusChangeRequest request = new BulkStatusChangeRequest(List.of(1L, 3L, 99L, 1L), Status.RESOLVED);
+
+        // Act
+        BulkStatusChangeResultDTO result = ticketService.updateStatuses(request, itSupport.getId());
+
+        // Assert
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(3, result.getResults().size());
+        assertEquals(StatusChangeOutcome.UPDATED, result.getResults().get(0).getOutcome());
+        assertEquals(Status.NEW, result.getResults().get(0).getOldStatus());
+        assertEquals(StatusChangeOutcome.UNCHANGED, result.getResults().get(1).getOutcome());
+        assertEquals(StatusChangeOutcome.NOT_FOUND, result.getResults().get(2).getOutcome());
+        verify(ticketRepository).updateStatus(List.of(1L), Status.RESOLVED, result.getLastUpdated());
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(ticketStatusCounters).record(Map.of(Status.NEW, -1L, Status.RESOLVED, 1L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLogWriter.AuditEvent>> auditEvents = ArgumentCaptor.forClass(List.class);
+        verify(auditLogWriter).record(auditEvents.capture());
+        assertEquals(1, auditEvents.getValue().size());
+        assertEquals(1L, auditEvents.getValue().get(0).ticketId());
+        assertEquals("NEW", auditEvents.getValue().get(0).oldValue());
+        assertEquals("RESOLVED", auditEvents.getValue().get(0).newValue());
+        verify(eventPublisher).publishEvent(new TicketEventBroadcaster.TicketChanged(TicketEventType.STATUS_CHANGED, ticketDTO));
+    }
+
+    @Test
+    void updateStatuses_WhenNothingChanges_ShouldNotWrite() {
+        // Arrange
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findStatusesForUpdate(any())).thenReturn(List.of(new TicketStatusDTO(1L, Status.NEW)));
+
+        // Act
+        BulkStatusChangeResultDTO result = ticketService.updateStatuses(
+                new BulkStatusChangeRequest(List.of(1L), Status.NEW), itSupport.getId());
+
+        // Assert
+        assertEquals(0, result.getUpdatedCount());
+        verify(ticketRepository, never()).updateStatus(any(), any(), any());
+        verify(auditLogWriter, never()).record(anyList());
+        verify(ticketStatusCounters, never()).record(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateStatuses_WithoutSubscribers_ShouldNotReloadTickets() {
+        // Arrange
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findStatusesForUpdate(any())).thenReturn(List.of(new TicketStatusDTO(1L, Status.NEW)));
+        when(ticketEventBroadcaster.subscriberCount()).thenReturn(0);
+
+        // Act
+        BulkStatusChangeResultDTO result = ticketService.updateStatuses(
+                new BulkStatusChangeRequest(List.of(1L), Status.IN_PROGRESS), itSupport.getId());
+
+        // Assert
+        assertEquals(1, result.getUpdatedCount());
+        verify(ticketRepository).updateStatus(List.of(1L), Status.IN_PROGRESS, result.getLastUpdated());
+        verify(ticketRepository, never()).findByIdIn(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateStatuses_WithTooManyTickets_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        List<Long> ticketIds = new ArrayList<>();
+        for (long id = 1; id <= TicketServiceImpl.MAX_BULK_TICKETS + 1; id++) {
+            ticketIds.add(id);
+        }
+
+        // Act & Assert
+        assertThrows(InvalidTicketDataException.class, () ->
+                ticketService.updateStatuses(new BulkStatusChangeRequest(ticketIds, Status.IN_PROGRESS), itSupport.getId()));
+        verify(ticketRepository, never()).findStatusesForUpdate(any());
+    }
+
+    @Test
+    void updateStatuses_WithEmployee_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () ->
+                ticketService.updateStatuses(new BulkStatusChangeRequest(List.of(1L), Status.IN_PROGRESS), employee.getId()));
+    }
+
     @Test
     void getUserTickets_ShouldReturnUserTickets() {
         // Arrange
@@ -217,6 +369,191 @@ public class TicketServiceImplTest {
         });
     }
 
+    @Test
+    void getTicketPage_WithMoreRows_ShouldReturnCursor() {
+        // Arrange
+        Ticket older = new Ticket();
+        older.setId(2L);
+        older.setLastUpdated(ticket.getLastUpdated().minusHours(1));
+
+        TicketPageRequest pageRequest = new TicketPageRequest();
+        pageRequest.setSize(1);
+
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any())).thenReturn(List.of(ticket, older));
+        when(ticketMapper.toDTOList(List.of(ticket))).thenReturn(List.of(ticketDTO));
+
+        // Act
+        TicketPageDTO result = ticketService.getTicketPage(pageRequest, itSupport.getId());
+
+        // Assert
+        assertTrue(result.isHasMore());
+        assertNotNull(result.getNextCursor());
+        assertEquals(1, result.getTickets().size());
+    }
+
+    @Test
+    void getTicketPage_WithCursor_ShouldResumeAfterLastTicket() {
+        // Arrange
+        TicketPageRequest firstRequest = new TicketPageRequest();
+        firstRequest.setSize(1);
+
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(ticket, new Ticket()));
+        String cursor = ticketService.getTicketPage(firstRequest, itSupport.getId()).getNextCursor();
+
+        TicketPageRequest nextRequest = new TicketPageRequest();
+        nextRequest.setCursor(cursor);
+        when(ticketRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        // Act
+        TicketPageDTO result = ticketService.getTicketPage(nextRequest, itSupport.getId());
+
+        // Assert
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+        verify(ticketRepository).findPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(ticket.getLastUpdated()), eq(ticket.getId()), any());
+    }
+
+    @Test
+    void getTicketPage_AsEmployee_ShouldOnlyQueryOwnTickets() {
+        // Arrange
+        TicketPageRequest pageRequest = new TicketPageRequest();
+        pageRequest.setCreatedById(itSupport.getId());
+
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(ticketRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        // Act
+        ticketService.getTicketPage(pageRequest, employee.getId());
+
+        // Assert
+        verify(ticketRepository).findPage(isNull(), isNull(), isNull(), eq(employee.getId()),
+                isNull(), isNull(), isNull(), isNull(), any());
+    }
+
+    @Test
+    void getTicketSummaryPage_AsEmployee_ShouldReturnOwnSummaries() {
+        // Arrange
+        TicketSummaryDTO summary = new TicketSummaryDTO(ticket.getId(), ticket.getTitle(),
+                ticket.getPriority(), ticket.getCategory(), ticket.getStatus(),
+                ticket.getCreatedDate(), ticket.getLastUpdated(), employee.getId());
+
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(ticketRepository.findSummaryPage(isNull(), isNull(), isNull(), eq(employee.getId()),
+                isNull(), isNull(), isNull(), isNull(), any())).thenReturn(List.of(summary));
+
+        // Act
+        TicketSummaryPageDTO result = ticketService.getTicketSummaryPage(new TicketPageRequest(), employee.getId());
+
+        // Assert
+        assertEquals(1, result.getTickets().size());
+        assertFalse(result.isHasMore());
+        verify(ticketMapper, never()).toDTOList(any());
+    }
+
+    private static Ticket changedTicket(long id, LocalDateTime lastUpdated) {
+        Ticket changed = new Ticket();
+        changed.setId(id);
+        changed.setLastUpdated(lastUpdated);
+        return changed;
+    }
+
+    @Test
+    void getTicketChanges_AsEmployee_ShouldOnlyQueryOwnTickets() {
+        // Arrange
+        ticket.setLastUpdated(LocalDateTime.now().minusHours(1));
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(ticketRepository.findChangedSince(eq(employee.getId()), isNull(), isNull(), any())).thenReturn(List.of(ticket));
+        when(ticketMapper.toDTOList(List.of(ticket))).thenReturn(List.of(ticketDTO));
+
+        // Act
+        TicketChangesDTO result = ticketService.getTicketChanges(null, null, employee.getId());
+
+        // Assert
+        assertEquals(1, result.getTickets().size());
+        assertFalse(result.isHasMore());
+        assertEquals(new PageCursor(ticket.getLastUpdated(), ticket.getId()).encode(), result.getNextCursor());
+        verify(ticketRepository).findChangedSince(employee.getId(), null, null,
+                PageRequest.of(0, TicketServiceImpl.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void getTicketChanges_AsITSupport_ShouldQueryAllCreators() {
+        // Arrange
+        String cursor = new PageCursor(LocalDateTime.now().minusHours(1), 7L).encode();
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findChangedSince(any(), any(), any(), any())).thenReturn(List.of());
+        when(ticketMapper.toDTOList(List.of())).thenReturn(List.of());
+
+        // Act
+        TicketChangesDTO result = ticketService.getTicketChanges(cursor, null, itSupport.getId());
+
+        // Assert
+        assertTrue(result.getTickets().isEmpty());
+        assertFalse(result.isHasMore());
+        // Nothing new, the next call starts from the same position
+        assertEquals(cursor, result.getNextCursor());
+        verify(ticketRepository).findChangedSince(isNull(), eq(PageCursor.decode(cursor).timestamp()), eq(7L), any());
+    }
+
+    @Test
+    void getTicketChanges_WhenPageIsSettled_ShouldContinueAfterLastTicket() {
+        // Arrange
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        Ticket first = changedTicket(3L, old);
+        Ticket second = changedTicket(4L, old);
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findChangedSince(any(), any(), any(), any()))
+                .thenReturn(List.of(first, second, changedTicket(5L, old.plusMinutes(1))));
+
+        // Act
+        TicketChangesDTO result = ticketService.getTicketChanges(null, 2, itSupport.getId());
+
+        // Assert
+        assertTrue(result.isHasMore());
+        assertEquals(new PageCursor(old, 4L).encode(), result.getNextCursor());
+        verify(ticketMapper).toDTOList(List.of(first, second));
+    }
+
+    @Test
+    void getTicketChanges_WhenChangesAreRecent_ShouldKeepCursorBeforeThem() {
+        // Arrange: the second ticket changed too recently for older changes to be ruled out
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        Ticket settled = changedTicket(3L, old);
+        Ticket recent = changedTicket(4L, LocalDateTime.now().minusSeconds(1));
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketRepository.findChangedSince(any(), any(), any(), any()))
+                .thenReturn(List.of(settled, recent, changedTicket(5L, LocalDateTime.now())));
+
+        // Act
+        TicketChangesDTO result = ticketService.getTicketChanges(null, 2, itSupport.getId());
+
+        // Assert: the recent ticket is sent now and again with the next call
+        assertFalse(result.isHasMore());
+        assertEquals(new PageCursor(old, 3L).encode(), result.getNextCursor());
+        verify(ticketMapper).toDTOList(List.of(settled, recent));
+    }
+
+    @Test
+    void getTicketPage_WithMalformedCursor_ShouldThrowException() {
+        // Arrange
+        TicketPageRequest pageRequest = new TicketPageRequest();
+        pageRequest.setCursor("not-a-cursor");
+
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+
+        // Act & Assert
+        assertThrows(InvalidTicketDataException.class, () -> {
+            ticketService.getTicketPage(pageRequest, itSupport.getId());
+        });
+    }
+
     @Test
     void getTicketById_AsOwner_ShouldReturnTicket() {
         // Arrange
@@ -311,6 +648,12 @@ public class TicketServiceImplTest {
         // Assert
         assertNotNull(result);
         verify(ticketRepository).save(any(Ticket.class));
+        assertEquals(1, ticket.getTicketComments().size());
+        ArgumentCaptor<AuditLogWriter.AuditEvent> auditEvent = ArgumentCaptor.forClass(AuditLogWriter.AuditEvent.class);
+        verify(auditLogWriter).record(auditEvent.capture());
+        assertEquals("COMMENT_ADDED", auditEvent.getValue().action());
+        assertEquals("\"Test comment\" - by itsupport", auditEvent.getValue().newValue());
+        assertTrue(ticket.getAuditLogs().isEmpty());
     }
 
     @Test
@@ -340,15 +683,50 @@ public class TicketServiceImplTest {
     @Test
     void getAuditLogs_AsITSupport_ShouldReturnLogs() {
         // Arrange
+        AuditLog auditLog = new AuditLog();
+        auditLog.setId(1L);
+        auditLog.setTicket(ticket);
+
         when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
-        when(ticketRepository.findAll()).thenReturn(List.of(ticket));
-        when(auditLogMapper.toDTO(any())).thenReturn(new AuditLogDTO());
+        when(auditLogRepository.findPage(eq(ticket.getId()), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), any())).thenReturn(List.of(auditLog));
+        when(auditLogMapper.toDTOList(List.of(auditLog))).thenReturn(List.of(new AuditLogDTO()));
+
+        AuditLogPageRequest pageRequest = new AuditLogPageRequest();
+        pageRequest.setTicketId(ticket.getId());
 
         // Act
-        List<AuditLogDTO> result = ticketService.getAuditLogs(itSupport.getId());
+        AuditLogPageDTO result = ticketService.getAuditLogs(pageRequest, itSupport.getId());
 
         // Assert
         assertNotNull(result);
+        assertEquals(1, result.getAuditLogs().size());
+        assertFalse(result.isHasMore());
+        verify(ticketRepository, never()).findAll();
+    }
+
+    @Test
+    void getAuditLogs_WithMoreRows_ShouldReturnCursor() {
+        // Arrange
+        AuditLog newer = new AuditLog();
+        newer.setId(2L);
+        AuditLog older = new AuditLog();
+        older.setId(1L);
+
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(auditLogRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(newer, older));
+
+        AuditLogPageRequest pageRequest = new AuditLogPageRequest();
+        pageRequest.setSize(1);
+
+        // Act
+        AuditLogPageDTO result = ticketService.getAuditLogs(pageRequest, itSupport.getId());
+
+        // Assert
+        assertTrue(result.isHasMore());
+        assertNotNull(result.getNextCursor());
+        verify(auditLogMapper).toDTOList(List.of(newer));
     }
 
     @Test
@@ -358,7 +736,82 @@ public class TicketServiceImplTest {
 
         // Act & Assert
         assertThrows(UnauthorizedAccessException.class, () -> {
-            ticketService.getAuditLogs(employee.getId());
+            ticketService.getAuditLogs(new AuditLogPageRequest(), employee.getId());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTicketStats_ShouldAggregateGroupedCountsAndReadStatusCounters() {
+        // Arrange
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        counts.put(Status.NEW, 5L);
+        counts.put(Status.IN_PROGRESS, 2L);
+        counts.put(Status.RESOLVED, 10L);
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketStatusCounters.counts()).thenReturn(counts);
+        when(ticketStatusCounters.count(any(Status.class))).thenAnswer(invocation ->
+                counts.get(invocation.<Status>getArgument(0)));
+        when(ticketRepository.countByStatusPriorityAndCategory()).thenReturn(List.of(
+                new TicketCountDTO(Status.NEW, Priority.HIGH, Category.NETWORK, 4),
+                new TicketCountDTO(Status.NEW, Priority.LOW, Category.NETWORK, 1),
+                new TicketCountDTO(Status.IN_PROGRESS, Priority.HIGH, Category.HARDWARE, 2),
+                new TicketCountDTO(Status.RESOLVED, Priority.LOW, Category.SOFTWARE, 10)));
+        OpenTicketAgeDTO age = new OpenTicketAgeDTO(1, 2, 3, 1);
+        when(ticketRepository.countByAge(eq(TicketServiceImpl.OPEN_STATUSES), any(), any(), any())).thenReturn(age);
+
+        // Act
+        TicketStatsDTO stats = ticketService.getTicketStats(itSupport.getId());
+
+        // Assert
+        assertEquals(17, stats.getTotalCount());
+        assertEquals(7, stats.getOpenCount());
+        assertEquals(5L, stats.getByStatus().get(Status.NEW));
+        assertEquals(10L, stats.getByStatus().get(Status.RESOLVED));
+        assertEquals(6L, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(0L, stats.getByPriority().get(Priority.MEDIUM));
+        assertEquals(5L, stats.getByCategory().get(Category.NETWORK));
+        assertEquals(0L, stats.getByCategory().get(Category.OTHER));
+        assertSame(age, stats.getOpenTicketAge());
+        verify(ticketRepository, never()).findAll();
+    }
+
+    @Test
+    void getTicketStats_WithEmployee_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> ticketService.getTicketStats(employee.getId()));
+        verify(ticketRepository, never()).countByStatusPriorityAndCategory();
+    }
+
+    @Test
+    void getStatusCounts_ShouldReadCounters() {
+        // Arrange
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        counts.put(Status.NEW, 4L);
+        counts.put(Status.IN_PROGRESS, 2L);
+        counts.put(Status.RESOLVED, 10L);
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(ticketStatusCounters.counts()).thenReturn(counts);
+        when(ticketStatusCounters.count(any(Status.class))).thenAnswer(invocation ->
+                counts.getOrDefault(invocation.<Status>getArgument(0), 0L));
+
+        // Act
+        TicketStatusCountsDTO result = ticketService.getStatusCounts(itSupport.getId());
+
+        // Assert
+        assertEquals(6, result.getOpenCount());
+        assertEquals(10L, result.getByStatus().get(Status.RESOLVED));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void getStatusCounts_WithEmployee_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> ticketService.getStatusCounts(employee.getId()));
+    }
+}
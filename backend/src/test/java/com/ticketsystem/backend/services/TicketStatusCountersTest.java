@@ -0,0 +1,169 @@
+package com.ticketsystem.backend.services;
+
+import com.ticketsystem.backend.dtos.TicketCountDTO;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Status;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TicketStatusCountersTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private TicketStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // No periodic check, the tests run it themselves
+        counters = new TicketStatusCounters(ticketRepository, transactionManager, meterRegistry, Duration.ZERO);
+        when(ticketRepository.countByStatusPriorityAndCategory()).thenReturn(List.of(
+                new TicketCountDTO(Status.NEW, Priority.HIGH, Category.NETWORK, 3),
+                new TicketCountDTO(Status.NEW, Priority.LOW, Category.HARDWARE, 1),
+                new TicketCountDTO(Status.RESOLVED, Priority.LOW, Category.SOFTWARE, 5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void check_OnStartup_ShouldLoadCountsFromDatabase() {
+        // Act
+        counters.loadOnStartup();
+
+        // Assert
+        assertEquals(4, counters.count(Status.NEW));
+        assertEquals(0, counters.count(Status.IN_PROGRESS));
+        assertEquals(5, counters.count(Status.RESOLVED));
+        assertNotNull(counters.lastCheckedAt());
+        assertEquals(4.0, meterRegistry.get(TicketStatusCounters.TICKETS_BY_STATUS).tag("status", "NEW").gauge().value());
+        // The first load is not a correction
+        assertEquals(0.0, meterRegistry.get(TicketStatusCounters.CORRECTIONS).counter().count());
+    }
+
+    @Test
+    void record_OutsideTransaction_ShouldApplyImmediately() {
+        // Arrange
+        counters.check();
+
+        // Act
+        counters.recordCreated(Status.NEW);
+        counters.recordStatusChange(Status.NEW, Status.IN_PROGRESS);
+        counters.recordStatusChange(Status.RESOLVED, Status.RESOLVED);
+
+        // Assert
+        assertEquals(Map.of(Status.NEW, 4L, Status.IN_PROGRESS, 1L, Status.RESOLVED, 5L), counters.counts());
+    }
+
+    @Test
+    void record_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        counters.recordCreated(Status.NEW);
+        counters.recordCreated(Status.NEW);
+
+        // Assert
+        assertEquals(0, counters.count(Status.NEW));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCommit();
+        assertEquals(1, counters.count(Status.NEW));
+        // The second transaction rolls back, its synchronization never sees afterCommit
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(1, counters.count(Status.NEW));
+    }
+
+    @Test
+    void check_WhenCountersDrifted_ShouldCorrectThem() {
+        // Arrange
+        counters.check();
+        counters.record(Map.of(Status.NEW, 2L, Status.RESOLVED, -1L));
+
+        // Act
+        int corrected = counters.check();
+
+        // Assert
+        assertEquals(2, corrected);
+        assertEquals(4, counters.count(Status.NEW));
+        assertEquals(5, counters.count(Status.RESOLVED));
+        assertEquals(2.0, meterRegistry.get(TicketStatusCounters.CORRECTIONS).counter().count());
+    }
+
+    @Test
+    void check_WhenStatusChangesDuringCount_ShouldLeaveItForNextCheck() {
+        // Arrange
+        counters.check();
+        when(ticketRepository.countByStatusPriorityAndCategory()).thenAnswer(invocation -> {
+            // A ticket is created while the count runs and is not part of it
+            counters.recordCreated(Status.NEW);
+            return List.of(
+                    new TicketCountDTO(Status.NEW, Priority.HIGH, Category.NETWORK, 4),
+                    new TicketCountDTO(Status.RESOLVED, Priority.LOW, Category.SOFTWARE, 5));
+        });
+
+        // Act
+        int corrected = counters.check();
+
+        // Assert
+        assertEquals(0, corrected);
+        assertEquals(5, counters.count(Status.NEW));
+    }
+
+    @Test
+    void check_WhenCommittedChangeIsNotAppliedYet_ShouldLeaveItForNextCheck() {
+        // Arrange
+        counters.check();
+        TransactionSynchronizationManager.initSynchronization();
+        counters.recordCreated(Status.NEW);
+        // The transaction has committed, so the count sees its ticket before afterCommit runs
+        when(ticketRepository.countByStatusPriorityAndCategory()).thenReturn(List.of(
+                new TicketCountDTO(Status.NEW, Priority.HIGH, Category.NETWORK, 5),
+                new TicketCountDTO(Status.RESOLVED, Priority.LOW, Category.SOFTWARE, 5)));
+
+        // Act
+        int corrected = counters.check();
+
+        // Assert
+        assertEquals(0, corrected);
+        assertEquals(4, counters.count(Status.NEW));
+        TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+        synchronization.afterCommit();
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(5, counters.count(Status.NEW));
+        assertEquals(0, counters.check());
+        assertEquals(0.0, meterRegistry.get(TicketStatusCounters.CORRECTIONS).counter().count());
+    }
+}
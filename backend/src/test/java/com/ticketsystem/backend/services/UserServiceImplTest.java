@@ -1,8 +1,11 @@
 package com.ticketsystem.backend.services;
 
+import com.ticketsystem.backend.dtos.CacheStatsDTO;
+import com.ticketsystem.backend.dtos.CachedUser;
 import com.ticketsystem.backend.entities.User;
 import com.ticketsystem.backend.enums.Role;
 import com.ticketsystem.backend.exceptions.InvalidCredentialsException;
+import com.ticketsystem.backend.exceptions.UnauthorizedAccessException;
 import com.ticketsystem.backend.exceptions.UserNotFoundException;
 import com.ticketsystem.backend.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,9 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,9 @@ public class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private UserLookupCache userLookupCache = new UserLookupCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -117,6 +125,78 @@ public class UserServiceImplTest {
         });
     }
 
+    @Test
+    void findCachedById_CalledTwice_ShouldQueryRepositoryOnce() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        // Act
+        userService.findCachedById(employee.getId());
+        CachedUser result = userService.findCachedById(employee.getId());
+
+        // Assert
+        assertEquals(employee.getUsername(), result.username());
+        assertEquals(employee.getRole(), result.role());
+        verify(userRepository, times(1)).findById(employee.getId());
+        assertEquals(1, userLookupCache.stats().hitCount());
+    }
+
+    @Test
+    void findCachedById_WithInvalidId_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> {
+            userService.findCachedById(99L);
+        });
+    }
+
+    @Test
+    void findCachedByIds_ShouldLoadOnlyMissingUsersInOneQuery() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(userRepository.findAllById(any())).thenReturn(List.of(itSupport));
+        userService.findCachedById(employee.getId());
+
+        // Act
+        List<CachedUser> result = userService.findCachedByIds(
+                List.of(itSupport.getId(), employee.getId(), itSupport.getId(), 99L));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(itSupport.getUsername(), result.get(0).username());
+        assertEquals(employee.getUsername(), result.get(1).username());
+        verify(userRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getCacheStats_AsItSupport_ShouldReturnCounters() {
+        // Arrange
+        when(userRepository.findById(itSupport.getId())).thenReturn(Optional.of(itSupport));
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        userService.findCachedById(employee.getId());
+        userService.findCachedById(employee.getId());
+
+        // Act
+        CacheStatsDTO result = userService.getCacheStats(itSupport.getId());
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertEquals(1, result.getHitCount());
+        assertEquals(2, result.getMissCount());
+    }
+
+    @Test
+    void getCacheStats_AsEmployee_ShouldThrowUnauthorizedAccessException() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> userService.getCacheStats(employee.getId()));
+        verify(userLookupCache, never()).stats();
+    }
+
     @Test
     void getAllUsers_ShouldReturnAllUsers() {
         // Arrange
@@ -160,6 +240,7 @@ public class UserServiceImplTest {
         assertEquals(encodedPassword, result.getPassword());
         assertEquals(role, result.getRole());
         verify(userRepository).save(any(User.class));
+        verify(userLookupCache).evict(newUser.getId());
     }
 
     @Test
@@ -185,6 +266,24 @@ public class UserServiceImplTest {
 
         // Assert
         verify(userRepository).deleteById(employee.getId());
+        verify(userLookupCache).evict(employee.getId());
+    }
+
+    @Test
+    void deleteUser_AfterLookup_ShouldDropCachedUser() {
+        // Arrange
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(userRepository.existsById(employee.getId())).thenReturn(true);
+        userService.findCachedById(employee.getId());
+
+        // Act
+        userService.deleteUser(employee.getId());
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.empty());
+
+        // Assert
+        assertThrows(UserNotFoundException.class, () -> {
+            userService.findCachedById(employee.getId());
+        });
     }
 
     @Test
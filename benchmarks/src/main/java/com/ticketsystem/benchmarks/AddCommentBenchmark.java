@@ -0,0 +1,64 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.repositories.AuditLogRepository;
+import com.ticketsystem.backend.repositories.TicketCommentRepository;
+import com.ticketsystem.backend.services.TicketService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TicketService.addComment end to end against H2: validation, comment and audit entry construction,
+ * the write transaction and mapping the updated ticket; with the default ASYNC audit mode the audit
+ * entry is written by the background writer, outside the measured call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddCommentBenchmark {
+
+    @Param({"short", "long"})
+    public String contentLength;
+
+    private TicketService ticketService;
+    private List<Long> ticketIds;
+    private Long itSupportId;
+    private String content;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ticketService = BackendContext.bean(TicketService.class);
+        ticketIds = BackendContext.dataset().ticketIds();
+        itSupportId = BackendContext.dataset().itSupportIds().get(0);
+        // Long comments take the truncation path of the audit entry
+        content = "short".equals(contentLength)
+                ? "Restarted the service, please try again"
+                : "Investigated the issue in detail. ".repeat(10);
+    }
+
+    /**
+     * Removes the rows added by the previous iteration, so tickets do not grow across iterations
+     */
+    @Setup(Level.Iteration)
+    public void resetComments() {
+        BackendContext.bean(TicketCommentRepository.class).deleteAllInBatch();
+        BackendContext.bean(AuditLogRepository.class).deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BackendContext.close();
+    }
+
+    @Benchmark
+    public TicketDTO addComment() {
+        Long ticketId = ticketIds.get(next++ % ticketIds.size());
+        return ticketService.addComment(ticketId, content, itSupportId);
+    }
+}
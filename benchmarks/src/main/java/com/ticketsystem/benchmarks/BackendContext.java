@@ -0,0 +1,105 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.BackendApplication;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The backend application running on an embedded H2 database, started once per benchmark fork
+ */
+public final class BackendContext {
+
+    private static ConfigurableApplicationContext context;
+    private static DataGenerator.Seeded dataset;
+
+    private BackendContext() {
+    }
+
+    /**
+     * Settings that run the backend on an embedded H2 database with quiet logging
+     * @param database Name of the in-memory database
+     * @return Property names and values, in a mutable map so callers can override them
+     */
+    static Map<String, String> h2Properties(String database) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.show_sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.org.springdoc", "WARN");
+        properties.put("logging.level.com.ticketsystem", "WARN");
+        return properties;
+    }
+
+    /**
+     * @param properties Property names and values
+     * @return The properties as command line arguments
+     */
+    static String[] toArgs(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Seeds a dataset inside one transaction
+     * @param context Running application context
+     * @param shape Size of the dataset
+     * @param seed Random seed
+     * @return IDs of the seeded rows
+     */
+    static DataGenerator.Seeded seed(ConfigurableApplicationContext context, DataGenerator.Shape shape, long seed) {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        return context.getBean(TransactionTemplate.class)
+                .execute(status -> DataGenerator.seed(entityManager, passwordEncoder, shape, seed));
+    }
+
+    /**
+     * Starts the backend and seeds the dataset on first use
+     * @return The running application context
+     */
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = SpringApplication.run(BackendApplication.class, toArgs(h2Properties("benchmarks")));
+            dataset = seed(context, DataGenerator.Shape.BENCHMARK, 42L);
+        }
+        return context;
+    }
+
+    /**
+     * @return IDs of the seeded rows
+     */
+    public static synchronized DataGenerator.Seeded dataset() {
+        get();
+        return dataset;
+    }
+
+    public static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+
+    public static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+            dataset = null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.entities.AuditLog;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.entities.TicketComment;
+import com.ticketsystem.backend.entities.User;
+import com.ticketsystem.backend.enums.Category;
+import com.ticketsystem.backend.enums.Priority;
+import com.ticketsystem.backend.enums.Role;
+import com.ticketsystem.backend.enums.Status;
+import jakarta.persistence.EntityManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data: users, tickets, comments and the audit history that matches them
+ * The same shape and seed always produce the same rows, so runs are comparable
+ *
+ * Distribution:
+ * - a few employees create most tickets, the rest only occasionally
+ * - older tickets are more likely to be resolved; every status step has its STATUS_CHANGE entry
+ * - comments per ticket are geometric around the configured mean, written by IT support
+ *   with the same COMMENT_ADDED entry the service writes
+ *
+ * Users are named employee1..N and itsupport1..N and all share {@link #PASSWORD}
+ */
+public final class DataGenerator {
+
+    public static final String PASSWORD = "password";
+
+    private static final int HISTORY_DAYS = 90;
+    private static final int FLUSH_EVERY = 500;
+
+    private static final String[] SUBJECTS = {
+            "VPN disconnects", "Printer offline", "Laptop does not boot", "Outlook keeps crashing",
+            "Cannot reach shared drive", "Monitor flickers", "Password reset", "Software license expired",
+            "Wi-Fi slow on 3rd floor", "Docking station not detected"
+    };
+    private static final String[] REPLIES = {
+            "Looking into it.", "Restarted the service, please try again.",
+            "Can you send a screenshot of the error?", "Replacement hardware has been ordered.",
+            "Pushed a configuration update to your machine.", "Closing, please reopen if it happens again."
+    };
+
+    /**
+     * Size of the generated dataset
+     * @param employees Number of employee accounts
+     * @param itSupportUsers Number of IT support accounts
+     * @param tickets Number of tickets
+     * @param meanComments Average number of comments per ticket
+     */
+    public record Shape(int employees, int itSupportUsers, int tickets, double meanComments) {
+
+        /**
+         * Fixed dataset used by the JMH benchmarks
+         */
+        public static final Shape BENCHMARK = new Shape(99, 1, 2_000, 5);
+
+        /**
+         * Default dataset of the load test server
+         */
+        public static final Shape LOAD_TEST = new Shape(500, 20, 20_000, 4);
+    }
+
+    /**
+     * IDs of the seeded rows
+     */
+    public record Seeded(List<Long> itSupportIds, List<Long> employeeIds, List<Long> ticketIds) {
+    }
+
+    private DataGenerator() {
+    }
+
+    /**
+     * Inserts the dataset; must run inside a transaction
+     * @param entityManager Entity manager of the target database
+     * @param passwordEncoder Encoder of the backend, so the generated users can log in
+     * @param shape Size of the dataset
+     * @param seed Random seed
+     * @return IDs of the inserted users and tickets
+     */
+    public static Seeded seed(EntityManager entityManager, PasswordEncoder passwordEncoder, Shape shape, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        // Hashing is deliberately slow, every user gets the same hash
+        String password = passwordEncoder.encode(PASSWORD);
+
+        List<User> itSupport = new ArrayList<>();
+        for (int i = 1; i <= shape.itSupportUsers(); i++) {
+            User user = user("itsupport" + i, password, Role.ROLE_IT_SUPPORT);
+            entityManager.persist(user);
+            itSupport.add(user);
+        }
+        List<User> employees = new ArrayList<>();
+        for (int i = 1; i <= shape.employees(); i++) {
+            User user = user("employee" + i, password, Role.ROLE_EMPLOYEE);
+            entityManager.persist(user);
+            employees.add(user);
+        }
+        entityManager.flush();
+
+        List<Long> ticketIds = new ArrayList<>();
+        for (int i = 0; i < shape.tickets(); i++) {
+            // Squaring skews the pick towards the first employees
+            double skew = random.nextDouble();
+            User creator = employees.get((int) (skew * skew * employees.size()));
+            double age = random.nextDouble();
+            LocalDateTime created = now.minusMinutes((long) (age * HISTORY_DAYS * 24 * 60));
+
+            Ticket ticket = new Ticket();
+            ticket.setTitle(SUBJECTS[random.nextInt(SUBJECTS.length)] + " #" + i);
+            ticket.setDescription("Reported by " + creator.getUsername() + ". "
+                    + "Steps and error details follow. ".repeat(1 + random.nextInt(8)));
+            ticket.setPriority(priority(random));
+            ticket.setCategory(Category.values()[random.nextInt(Category.values().length)]);
+            ticket.setStatus(Status.NEW);
+            ticket.setCreatedBy(creator);
+            ticket.setCreatedDate(created);
+            ticket.setLastUpdated(created);
+
+            User assignee = itSupport.get(random.nextInt(itSupport.size()));
+            LocalDateTime time = created;
+            Status target = status(random, age);
+            if (target != Status.NEW) {
+                time = later(random, time, now);
+                changeStatus(ticket, Status.IN_PROGRESS, assignee, time);
+            }
+
+            int comments = comments(random, shape.meanComments());
+            for (int j = 0; j < comments; j++) {
+                time = later(random, time, now);
+                addComment(ticket, REPLIES[random.nextInt(REPLIES.length)], assignee, time);
+            }
+
+            if (target == Status.RESOLVED) {
+                time = later(random, time, now);
+                changeStatus(ticket, Status.RESOLVED, assignee, time);
+            }
+
+            entityManager.persist(ticket);
+            ticketIds.add(ticket.getId());
+            if (i % FLUSH_EVERY == FLUSH_EVERY - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new Seeded(itSupport.stream().map(User::getId).toList(),
+                employees.stream().map(User::getId).toList(), ticketIds);
+    }
+
+    private static User user(String username, String password, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setRole(role);
+        return user;
+    }
+
+    private static Priority priority(Random random) {
+        int roll = random.nextInt(10);
+        return roll < 3 ? Priority.LOW : roll < 8 ? Priority.MEDIUM : Priority.HIGH;
+    }
+
+    /**
+     * @param age 0 for a ticket created now, 1 for the oldest one
+     */
+    private static Status status(Random random, double age) {
+        double roll = random.nextDouble();
+        if (roll < 0.2 + 0.75 * age) {
+            return Status.RESOLVED;
+        }
+        return random.nextBoolean() ? Status.IN_PROGRESS : Status.NEW;
+    }
+
+    /**
+     * Geometric count with the given mean: most tickets get a few comments, some get many
+     */
+    private static int comments(Random random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1 / (mean + 1);
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private static LocalDateTime later(Random random, LocalDateTime time, LocalDateTime now) {
+        LocalDateTime next = time.plusMinutes(1 + random.nextInt(12 * 60));
+        return next.isAfter(now) ? now : next;
+    }
+
+    private static void changeStatus(Ticket ticket, Status newStatus, User performedBy, LocalDateTime time) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setAction("STATUS_CHANGE");
+        auditLog.setOldValue(ticket.getStatus().toString());
+        auditLog.setNewValue(newStatus.toString());
+        auditLog.setPerformedBy(performedBy);
+        auditLog.setTicket(ticket);
+        auditLog.setCreatedDate(time);
+        ticket.getAuditLogs().add(auditLog);
+        ticket.setStatus(newStatus);
+        ticket.setLastUpdated(time);
+    }
+
+    private static void addComment(Ticket ticket, String content, User author, LocalDateTime time) {
+        TicketComment comment = new TicketComment();
+        comment.setContent(content);
+        comment.setCreatedBy(author);
+        comment.setCreatedDate(time);
+        comment.setTicket(ticket);
+        ticket.getTicketComments().add(comment);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setAction("COMMENT_ADDED");
+        auditLog.setNewValue("\"" + content + "\" - by " + author.getUsername());
+        auditLog.setPerformedBy(author);
+        auditLog.setTicket(ticket);
+        auditLog.setCreatedDate(time);
+        ticket.getAuditLogs().add(auditLog);
+        ticket.setLastUpdated(time);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.util.JwtAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the authentication filter that runs in front of every API call
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+    private final FilterChain chain = (request, response) -> { };
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        authenticated = new MockHttpServletRequest("GET", "/api/tickets");
+        authenticated.addHeader("User-Id", "42");
+        anonymous = new MockHttpServletRequest("GET", "/api/auth/login");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void withUserId() throws ServletException, IOException {
+        filter.doFilter(authenticated, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void withoutUserId() throws ServletException, IOException {
+        filter.doFilter(anonymous, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,339 @@
+package com.ticketsystem.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.enums.Status;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scripted load against the REST API: every worker logs in as one of the generated users,
+ * then lists, opens, comments on and changes the status of tickets like the Swing client does
+ * Reports count, errors, throughput and p50/p99 latency per operation
+ *
+ * Without --base-url it starts {@link LoadTestServer} in-process on a random port,
+ * so a run needs nothing but this JAR; generator options are passed on to that server
+ *
+ * Options:
+ * --base-url         backend to test, must be seeded with the same generator options
+ * --concurrency      number of workers, default 50
+ * --warmup           seconds before measuring starts, default 10
+ * --duration         measured seconds, default 60
+ * --session-length   requests per login, default 20
+ * --it-support-share fraction of workers logged in as IT support, default 0.2
+ * --seed             random seed of the workers, default 1
+ */
+public final class LoadHarness {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 50;
+    private static final Status[] STATUSES = Status.values();
+
+    /**
+     * Requests the harness sends
+     */
+    enum Operation {
+        LOGIN, LIST, DETAIL, COMMENT, STATUS_CHANGE
+    }
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestServer.options(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+        int sessionLength = Integer.parseInt(options.getOrDefault("session-length", "20"));
+        double itSupportShare = Double.parseDouble(options.getOrDefault("it-support-share", "0.2"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        DataGenerator.Shape shape = LoadTestServer.shape(options);
+
+        ConfigurableApplicationContext server = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            options.put("server.port", "0");
+            server = LoadTestServer.start(options);
+            baseUrl = "http://localhost:" + server.getEnvironment().getProperty("local.server.port");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Worker> workers = new ArrayList<>();
+        int itSupportWorkers = (int) Math.round(concurrency * itSupportShare);
+        for (int i = 0; i < concurrency; i++) {
+            boolean itSupport = i < itSupportWorkers;
+            String username = itSupport
+                    ? "itsupport" + (1 + i % shape.itSupportUsers())
+                    : "employee" + (1 + i % shape.employees());
+            workers.add(new Worker(client, baseUrl, username, itSupport, sessionLength,
+                    new Random(seed + i), measureFrom, measureUntil));
+        }
+
+        System.out.printf("Running %d workers against %s: %ds warmup, %ds measured%n",
+                concurrency, baseUrl, warmupSeconds, durationSeconds);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        workers.forEach(executor::execute);
+        executor.shutdown();
+        if (!executor.awaitTermination(warmupSeconds + durationSeconds + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        report(workers, durationSeconds);
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private static void report(List<Worker> workers, long durationSeconds) {
+        System.out.printf("%n%-14s %9s %7s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "max ms");
+        Samples all = new Samples();
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Samples samples = new Samples();
+            long errors = 0;
+            for (Worker worker : workers) {
+                samples.addAll(worker.samples.get(operation));
+                errors += worker.errors.get(operation);
+            }
+            all.addAll(samples);
+            allErrors += errors;
+            printRow(operation.name().toLowerCase(), samples, errors, durationSeconds);
+        }
+        printRow("total", all, allErrors, durationSeconds);
+    }
+
+    private static void printRow(String name, Samples samples, long errors, long durationSeconds) {
+        samples.sort();
+        System.out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", name, samples.size(), errors,
+                samples.size() / (double) durationSeconds,
+                millis(samples.percentile(0.50)), millis(samples.percentile(0.99)), millis(samples.percentile(1)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * One simulated user; runs sessions of a login followed by a fixed number of requests until the end time
+     */
+    private static final class Worker implements Runnable {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final String username;
+        private final boolean itSupport;
+        private final int sessionLength;
+        private final Random random;
+        private final long measureFrom;
+        private final long measureUntil;
+
+        private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        private String userId;
+        private String cursor;
+        private final List<Long> ticketIds = new ArrayList<>();
+        private int comments;
+
+        Worker(HttpClient client, String baseUrl, String username, boolean itSupport, int sessionLength,
+               Random random, long measureFrom, long measureUntil) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.username = username;
+            this.itSupport = itSupport;
+            this.sessionLength = sessionLength;
+            this.random = random;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new Samples());
+                errors.put(operation, 0L);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (System.nanoTime() < measureUntil) {
+                    if (!login()) {
+                        // Back off instead of hammering a failing endpoint
+                        Thread.sleep(100);
+                        continue;
+                    }
+                    for (int i = 0; i < sessionLength && System.nanoTime() < measureUntil; i++) {
+                        step();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean login() throws InterruptedException {
+            String body = "{\"username\":\"" + username + "\",\"password\":\"" + DataGenerator.PASSWORD + "\"}";
+            HttpResponse<String> response = send(Operation.LOGIN, HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            if (response == null) {
+                return false;
+            }
+            userId = json(response).path("id").asText();
+            cursor = null;
+            return true;
+        }
+
+        private void step() throws InterruptedException {
+            int roll = random.nextInt(100);
+            if (ticketIds.isEmpty() || roll < (itSupport ? 35 : 50)) {
+                list();
+            } else if (!itSupport || roll < 70) {
+                detail();
+            } else if (roll < 85) {
+                comment();
+            } else {
+                changeStatus();
+            }
+        }
+
+        private void list() throws InterruptedException {
+            // Half of the list views page further, the rest start from the top
+            String query = "?size=" + PAGE_SIZE;
+            if (cursor != null && random.nextBoolean()) {
+                query += "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+            }
+            HttpResponse<String> response = send(Operation.LIST, authenticated("/api/tickets/summaries" + query).GET());
+            if (response == null) {
+                return;
+            }
+            JsonNode page = json(response);
+            ticketIds.clear();
+            page.path("tickets").forEach(ticket -> ticketIds.add(ticket.path("id").asLong()));
+            cursor = page.path("hasMore").asBoolean() ? page.path("nextCursor").asText() : null;
+        }
+
+        private void detail() throws InterruptedException {
+            send(Operation.DETAIL, authenticated("/api/tickets/" + randomTicket()).GET());
+        }
+
+        private void comment() throws InterruptedException {
+            send(Operation.COMMENT, authenticated("/api/tickets/" + randomTicket() + "/comments")
+                    .header("Content-Type", "text/plain")
+                    .POST(HttpRequest.BodyPublishers.ofString("Load test comment " + ++comments + " from " + username)));
+        }
+
+        private void changeStatus() throws InterruptedException {
+            Status status = STATUSES[random.nextInt(STATUSES.length)];
+            send(Operation.STATUS_CHANGE, authenticated("/api/tickets/" + randomTicket() + "/status?newStatus=" + status)
+                    .PUT(HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private Long randomTicket() {
+            return ticketIds.get(random.nextInt(ticketIds.size()));
+        }
+
+        private HttpRequest.Builder authenticated(String path) {
+            return HttpRequest.newBuilder(uri(path)).header("User-Id", userId);
+        }
+
+        private URI uri(String path) {
+            return URI.create(baseUrl + path);
+        }
+
+        /**
+         * Sends a request and records its latency if it completed inside the measured window
+         * @return The response, or null if the request failed or returned an error status
+         */
+        private HttpResponse<String> send(Operation operation, HttpRequest.Builder request) throws InterruptedException {
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = client.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // Counted as an error below
+            }
+            long end = System.nanoTime();
+            boolean failed = response == null || response.statusCode() >= 400;
+            if (start >= measureFrom && end <= measureUntil) {
+                if (failed) {
+                    errors.merge(operation, 1L, Long::sum);
+                } else {
+                    samples.get(operation).add(end - start);
+                }
+            }
+            return failed ? null : response;
+        }
+
+        private static JsonNode json(HttpResponse<String> response) {
+            try {
+                return OBJECT_MAPPER.readTree(response.body());
+            } catch (IOException e) {
+                return OBJECT_MAPPER.missingNode();
+            }
+        }
+    }
+
+    /**
+     * Growable list of latencies in nanoseconds; not thread-safe, every worker keeps its own
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        /**
+         * @param fraction Between 0 and 1; call {@link #sort()} first
+         * @return Nearest-rank percentile, or 0 without samples
+         */
+        long percentile(double fraction) {
+            if (size == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(fraction * size);
+            return values[Math.max(0, rank - 1)];
+        }
+    }
+}
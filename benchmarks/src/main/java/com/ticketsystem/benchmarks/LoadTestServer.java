@@ -0,0 +1,115 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.BackendApplication;
+import com.ticketsystem.backend.repositories.UserRepository;
+import com.ticketsystem.backend.services.TicketSearchService;
+import com.ticketsystem.backend.services.TicketStatusCounters;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the backend with a generated dataset, as the target of {@link LoadHarness}
+ * Uses an in-memory H2 database by default; pass --spring.datasource.url (and driver, credentials, dialect)
+ * to seed a local database instead
+ *
+ * Options, besides any Spring property:
+ * --generator.employees, --generator.it-support-users, --generator.tickets, --generator.mean-comments
+ *     size of the dataset, defaults to {@link DataGenerator.Shape#LOAD_TEST}
+ * --generator.seed       random seed, default 1
+ * --generator.enabled    false to reuse the data already in the database
+ */
+public final class LoadTestServer {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Database settings that only make sense for H2 and are dropped when another database is configured
+     */
+    private static final List<String> H2_ONLY = List.of(
+            "spring.datasource.driver-class-name",
+            "spring.datasource.username",
+            "spring.datasource.password",
+            "spring.jpa.database-platform",
+            "spring.jpa.hibernate.ddl-auto");
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = options(args);
+        options.putIfAbsent("server.port", String.valueOf(DEFAULT_PORT));
+        ConfigurableApplicationContext context = start(options);
+        System.out.printf("Backend listening on http://localhost:%s, users log in with password '%s'%n",
+                context.getEnvironment().getProperty("local.server.port"), DataGenerator.PASSWORD);
+    }
+
+    /**
+     * Starts the backend and seeds the dataset unless disabled
+     * @param options Spring properties and generator options
+     * @return The running application context
+     */
+    static ConfigurableApplicationContext start(Map<String, String> options) {
+        Map<String, String> properties = BackendContext.h2Properties("loadtest");
+        if (options.containsKey("spring.datasource.url") && !options.get("spring.datasource.url").startsWith("jdbc:h2:")) {
+            H2_ONLY.forEach(properties::remove);
+        }
+        properties.putAll(options);
+
+        ConfigurableApplicationContext context =
+                SpringApplication.run(BackendApplication.class, BackendContext.toArgs(properties));
+        if (Boolean.parseBoolean(options.getOrDefault("generator.enabled", "true"))) {
+            if (context.getBean(UserRepository.class).count() > 0) {
+                System.out.println("Database already contains users, skipping data generation");
+            } else {
+                DataGenerator.Shape shape = shape(options);
+                long start = System.nanoTime();
+                DataGenerator.Seeded seeded = BackendContext.seed(context, shape,
+                        Long.parseLong(options.getOrDefault("generator.seed", "1")));
+                System.out.printf("Generated %d employees, %d IT support users and %d tickets in %ds%n",
+                        seeded.employeeIds().size(), seeded.itSupportIds().size(), seeded.ticketIds().size(),
+                        (System.nanoTime() - start) / 1_000_000_000);
+                // The index and counters were built on startup, before the generated tickets existed
+                context.getBean(TicketSearchService.class).rebuildIndex();
+                context.getBean(TicketStatusCounters.class).check();
+            }
+        }
+        return context;
+    }
+
+    /**
+     * @param options Generator options
+     * @return Dataset size from the options, with the load test defaults for missing values
+     */
+    static DataGenerator.Shape shape(Map<String, String> options) {
+        DataGenerator.Shape defaults = DataGenerator.Shape.LOAD_TEST;
+        return new DataGenerator.Shape(
+                Integer.parseInt(options.getOrDefault("generator.employees", String.valueOf(defaults.employees()))),
+                Integer.parseInt(options.getOrDefault("generator.it-support-users",
+                        String.valueOf(defaults.itSupportUsers()))),
+                Integer.parseInt(options.getOrDefault("generator.tickets", String.valueOf(defaults.tickets()))),
+                Double.parseDouble(options.getOrDefault("generator.mean-comments",
+                        String.valueOf(defaults.meanComments()))));
+    }
+
+    /**
+     * Parses --name=value arguments
+     * @param args Command line arguments
+     * @return Options in the order given, in a mutable map
+     * @throws IllegalArgumentException if an argument has another form
+     */
+    static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
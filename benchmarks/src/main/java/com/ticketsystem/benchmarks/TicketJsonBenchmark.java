@@ -0,0 +1,49 @@
+package com.ticketsystem.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of ticket DTO lists with the ObjectMapper the backend configures for responses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketJsonBenchmark {
+
+    @Param({"100", "2000"})
+    public int ticketCount;
+
+    private ObjectMapper objectMapper;
+    private List<TicketDTO> tickets;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BackendContext.bean(ObjectMapper.class);
+        TicketMapper ticketMapper = BackendContext.bean(TicketMapper.class);
+        TicketRepository ticketRepository = BackendContext.bean(TicketRepository.class);
+        tickets = BackendContext.bean(TransactionTemplate.class)
+                .execute(status -> ticketMapper.toDTOList(ticketRepository.findAll().subList(0, ticketCount)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        BackendContext.close();
+    }
+
+    @Benchmark
+    public byte[] writeTicketList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tickets);
+    }
+}
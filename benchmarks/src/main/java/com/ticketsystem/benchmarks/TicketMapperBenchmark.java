@@ -0,0 +1,48 @@
+package com.ticketsystem.benchmarks;
+
+import com.ticketsystem.backend.dtos.TicketDTO;
+import com.ticketsystem.backend.entities.Ticket;
+import com.ticketsystem.backend.mappers.TicketMapper;
+import com.ticketsystem.backend.repositories.TicketRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of ticket lists with their comments, as done by every list endpoint
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketMapperBenchmark {
+
+    @Param({"100", "2000"})
+    public int ticketCount;
+
+    private TicketMapper ticketMapper;
+    private List<Ticket> tickets;
+
+    @Setup
+    public void setUp() {
+        ticketMapper = BackendContext.bean(TicketMapper.class);
+        TicketRepository ticketRepository = BackendContext.bean(TicketRepository.class);
+        // Loaded once with comments attached, so only the mapping itself is measured
+        tickets = BackendContext.bean(TransactionTemplate.class)
+                .execute(status -> ticketRepository.findAll().subList(0, ticketCount));
+    }
+
+    @TearDown
+    public void tearDown() {
+        BackendContext.close();
+    }
+
+    @Benchmark
+    public List<TicketDTO> toDTOList() {
+        return ticketMapper.toDTOList(tickets);
+    }
+}
@@ -39,11 +39,53 @@ EXCEPTION
 END;
 /
 
+-- Drop existing sequences if they exist
+BEGIN
+   EXECUTE IMMEDIATE 'DROP SEQUENCE USER_ID_SEQ';
+EXCEPTION
+   WHEN OTHERS THEN
+      IF SQLCODE != -2289 THEN
+         RAISE;
+      END IF;
+END;
+/
+
+BEGIN
+   EXECUTE IMMEDIATE 'DROP SEQUENCE TICKET_ID_SEQ';
+EXCEPTION
+   WHEN OTHERS THEN
+      IF SQLCODE != -2289 THEN
+         RAISE;
+      END IF;
+END;
+/
+
+BEGIN
+   EXECUTE IMMEDIATE 'DROP SEQUENCE COMMENT_ID_SEQ';
+EXCEPTION
+   WHEN OTHERS THEN
+      IF SQLCODE != -2289 THEN
+         RAISE;
+      END IF;
+END;
+/
+
+BEGIN
+   EXECUTE IMMEDIATE 'DROP SEQUENCE AUDIT_LOG_ID_SEQ';
+EXCEPTION
+   WHEN OTHERS THEN
+      IF SQLCODE != -2289 THEN
+         RAISE;
+      END IF;
+END;
+/
+
 -- Create sequences for ID generation
-CREATE SEQUENCE USER_ID_SEQ START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE TICKET_ID_SEQ START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE COMMENT_ID_SEQ START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE AUDIT_LOG_ID_SEQ START WITH 1 INCREMENT BY 1;
+-- The increment must match the allocationSize of the entity generators: the backend reserves 50 IDs per call
+CREATE SEQUENCE USER_ID_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE TICKET_ID_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE COMMENT_ID_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE AUDIT_LOG_ID_SEQ START WITH 1 INCREMENT BY 50;
 
 -- Create Users table
 CREATE TABLE USERS (
@@ -62,7 +104,7 @@ CREATE TABLE TICKET (
     CATEGORY VARCHAR2(20) NOT NULL CHECK (CATEGORY IN ('NETWORK', 'HARDWARE', 'SOFTWARE', 'OTHER')),
     STATUS VARCHAR2(20) NOT NULL CHECK (STATUS IN ('NEW', 'IN_PROGRESS', 'RESOLVED')),
     CREATED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
-    LAST_UPDATED TIMESTAMP,
+    LAST_UPDATED TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     CREATED_BY_USER_ID NUMBER(19),
     CONSTRAINT FK_TICKET_USER FOREIGN KEY (CREATED_BY_USER_ID) REFERENCES USERS(ID)
 );
@@ -92,9 +134,11 @@ CREATE TABLE AUDIT_LOG (
 );
 
 -- Create triggers for automatic ID generation
+-- Only for rows inserted without an ID (manual SQL); the backend assigns IDs itself
 CREATE OR REPLACE TRIGGER USER_ID_TRIGGER
 BEFORE INSERT ON USERS
 FOR EACH ROW
+WHEN (NEW.ID IS NULL)
 BEGIN
     SELECT USER_ID_SEQ.NEXTVAL INTO :NEW.ID FROM DUAL;
 END;
@@ -103,6 +147,7 @@ END;
 CREATE OR REPLACE TRIGGER TICKET_ID_TRIGGER
 BEFORE INSERT ON TICKET
 FOR EACH ROW
+WHEN (NEW.ID IS NULL)
 BEGIN
     SELECT TICKET_ID_SEQ.NEXTVAL INTO :NEW.ID FROM DUAL;
 END;
@@ -111,6 +156,7 @@ END;
 CREATE OR REPLACE TRIGGER COMMENT_ID_TRIGGER
 BEFORE INSERT ON TICKET_COMMENT
 FOR EACH ROW
+WHEN (NEW.ID IS NULL)
 BEGIN
     SELECT COMMENT_ID_SEQ.NEXTVAL INTO :NEW.ID FROM DUAL;
 END;
@@ -119,6 +165,7 @@ END;
 CREATE OR REPLACE TRIGGER AUDIT_LOG_ID_TRIGGER
 BEFORE INSERT ON AUDIT_LOG
 FOR EACH ROW
+WHEN (NEW.ID IS NULL)
 BEGIN
     SELECT AUDIT_LOG_ID_SEQ.NEXTVAL INTO :NEW.ID FROM DUAL;
 END;
@@ -134,5 +181,14 @@ INSERT INTO USERS (USERNAME, PASSWORD, ROLE) VALUES
 -- Create indexes for better performance
 CREATE INDEX IDX_TICKET_STATUS ON TICKET(STATUS);
 CREATE INDEX IDX_TICKET_CREATED_BY ON TICKET(CREATED_BY_USER_ID);
+-- Keyset pages of tickets, newest change first: unfiltered, by status and by creator
+CREATE INDEX IDX_TICKET_UPDATED_ID ON TICKET(LAST_UPDATED, ID);
+CREATE INDEX IDX_TICKET_STATUS_UPDATED ON TICKET(STATUS, LAST_UPDATED, ID);
+CREATE INDEX IDX_TICKET_CREATOR_UPDATED ON TICKET(CREATED_BY_USER_ID, LAST_UPDATED, ID);
+-- Dashboard counts by priority and category, and open tickets by age, read from the index alone
+CREATE INDEX IDX_TICKET_STATS ON TICKET(STATUS, PRIORITY, CATEGORY, CREATED_DATE);
 CREATE INDEX IDX_COMMENT_TICKET ON TICKET_COMMENT(TICKET_ID);
-CREATE INDEX IDX_AUDIT_TICKET ON AUDIT_LOG(TICKET_ID);
\ No newline at end of file
+CREATE INDEX IDX_AUDIT_TICKET ON AUDIT_LOG(TICKET_ID);
+-- Keyset pages of audit logs, newest first: unfiltered and by ticket
+CREATE INDEX IDX_AUDIT_CREATED_ID ON AUDIT_LOG(CREATED_DATE, ID);
+CREATE INDEX IDX_AUDIT_TICKET_CREATED ON AUDIT_LOG(TICKET_ID, CREATED_DATE, ID);
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogPageDTO {
+    private List<AuditLogDTO> auditLogs = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+}
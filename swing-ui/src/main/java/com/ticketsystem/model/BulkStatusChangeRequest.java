@@ -0,0 +1,18 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusChangeRequest {
+    private List<Long> ticketIds = new ArrayList<>();
+    private Status newStatus;
+}
@@ -0,0 +1,21 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusChangeResultDTO {
+    private Status newStatus;
+    private LocalDateTime lastUpdated;
+    private int updatedCount;
+    private List<TicketStatusChangeDTO> results = new ArrayList<>();
+}
@@ -0,0 +1,17 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OpenTicketAgeDTO {
+    private long underOneDay;
+    private long oneToSevenDays;
+    private long sevenToThirtyDays;
+    private long overThirtyDays;
+}
@@ -0,0 +1,5 @@
+package com.ticketsystem.model;
+
+public enum StatusChangeOutcome {
+    UPDATED, UNCHANGED, NOT_FOUND
+}
@@ -0,0 +1,21 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketSearchPageDTO {
+    private List<TicketSearchHitDTO> hits = new ArrayList<>();
+    private long totalHits;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketStatsDTO {
+    private long totalCount;
+    private long openCount;
+    private Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    private Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+    private Map<Category, Long> byCategory = new EnumMap<>(Category.class);
+    private OpenTicketAgeDTO openTicketAge;
+    private LocalDateTime generatedAt;
+}
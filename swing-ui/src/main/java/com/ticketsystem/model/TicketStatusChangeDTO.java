@@ -0,0 +1,16 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketStatusChangeDTO {
+    private Long ticketId;
+    private StatusChangeOutcome outcome;
+    private Status oldStatus;
+}
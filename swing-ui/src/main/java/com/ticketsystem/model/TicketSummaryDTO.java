@@ -0,0 +1,23 @@
+package com.ticketsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketSummaryDTO {
+    private Long id;
+    private String title;
+    private Priority priority;
+    private Category category;
+    private Status status;
+    private LocalDateTime createdDate;
+    private LocalDateTime lastUpdated;
+    private Long createdById;
+}
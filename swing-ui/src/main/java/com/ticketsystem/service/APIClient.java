@@ -1,28 +1,65 @@
 package com.ticketsystem.service;
 
 import com.ticketsystem.model.*;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Client for interacting with the ticket system REST API (Backend)
  * Handles authentication and provides methods for all API operations
  */
 public class APIClient {
+    private static final Log log = LogFactory.getLog(APIClient.class);
+    // The server's maximum page size, so a full reload takes as few calls as possible
+    private static final int CHANGES_PAGE_SIZE = 200;
+
     private final String baseUrl;
+    private final HttpTransport transport;
     private final RestTemplate restTemplate;
     private UserDTO currentUser;
     private String authToken;
 
+    // Read-only headers sent with every authenticated request, rebuilt only on login and logout
+    private volatile HttpHeaders authHeaders = buildAuthHeaders(null, null);
+
+    // Users resolved during this session, usernames never change while logged in
+    private final Map<Long, UserDTO> userCache = new ConcurrentHashMap<>();
+
     /**
-     * Creates a new API client with the specified base URL
+     * Creates a new API client with the specified base URL and the default pooled transport
      * @param baseUrl The base URL of the ticket system API
      */
     public APIClient(String baseUrl) {
+        this(baseUrl, HttpTransport.jdkHttpClient());
+    }
+
+    /**
+     * Creates a new API client that sends its requests through the given transport
+     * @param baseUrl The base URL of the ticket system API
+     * @param transport Transport used for all requests
+     */
+    public APIClient(String baseUrl, HttpTransport transport) {
         this.baseUrl = baseUrl;
-        this.restTemplate = new RestTemplate();
+        this.transport = transport;
+        this.restTemplate = transport.createRestTemplate();
+    }
+
+    /**
+     * @return Latency statistics of the requests sent by this client
+     */
+    public TransportStats getTransportStats() {
+        return transport.getStats();
     }
 
     /**
@@ -33,7 +70,7 @@ public class APIClient {
      */
     public UserDTO login(LoginRequest request) {
         try {
-            System.out.println("Attempting login for user: " + request.getUsername());
+            log.debug("Attempting login for user: " + request.getUsername());
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -46,17 +83,19 @@ public class APIClient {
                     UserDTO.class
             );
 
-            System.out.println("Login response status: " + response.getStatusCode());
+            log.debug("Login response status: " + response.getStatusCode());
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 // Store user details and authentication token for subsequent requests
                 this.currentUser = response.getBody();
                 this.authToken = response.getHeaders().getFirst("Authorization");
+                this.authHeaders = buildAuthHeaders(currentUser, authToken);
+                userCache.clear();
                 return currentUser;
             }
             throw new RuntimeException("Login failed: Unexpected response");
         } catch (org.springframework.web.client.HttpClientErrorException e) {
-            System.out.println("Login error: " + e.getMessage());
+            log.debug("Login error: " + e.getStatusCode());
             // Handle specific HTTP status codes
             if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
                 throw new RuntimeException("Incorrect username or password");
@@ -66,37 +105,42 @@ public class APIClient {
                 throw new RuntimeException("Login failed: " + e.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("Login error: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Login error: " + e.getMessage(), e);
             throw new RuntimeException("Login failed: " + e.getMessage());
         }
     }
 
     /**
-     * Creates HTTP headers with authentication information for API requests
+     * Forgets the logged in user and stops sending their credentials
+     */
+    public void logout() {
+        this.currentUser = null;
+        this.authToken = null;
+        this.authHeaders = buildAuthHeaders(null, null);
+        userCache.clear();
+    }
+
+    /**
+     * Builds the read-only HTTP headers for authenticated API requests
+     * @param user The logged in user, or null
+     * @param token The authentication token, or null
      * @return HttpHeaders with content type and authentication headers
      */
-    private HttpHeaders createAuthHeaders() {
+    private static HttpHeaders buildAuthHeaders(UserDTO user, String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Debug logging
-        System.out.println("Creating headers for request");
-        System.out.println("Current user: " + (currentUser != null ? currentUser.getId() : "null"));
-
-        if (currentUser != null) {
+        if (user != null) {
             // Add user ID header for backend authorization
-            headers.set("User-Id", currentUser.getId().toString());
-            System.out.println("Added User-Id header: " + currentUser.getId());
+            headers.set("User-Id", user.getId().toString());
         }
 
-        if (authToken != null) {
+        if (token != null) {
             // Add JWT token for authentication
-            headers.set("Authorization", authToken);
-            System.out.println("Added Authorization header: " + authToken);
+            headers.set("Authorization", token);
         }
 
-        return headers;
+        return HttpHeaders.readOnlyHttpHeaders(headers);
     }
 
     /**
@@ -107,7 +151,7 @@ public class APIClient {
      */
     public List<TicketDTO> getAllTickets(Long userId) {
         try {
-            HttpEntity<?> request = new HttpEntity<>(createAuthHeaders());
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
 
             ResponseEntity<List<TicketDTO>> response = restTemplate.exchange(
                     baseUrl + "/tickets",
@@ -133,7 +177,7 @@ public class APIClient {
      */
     public List<TicketDTO> getUserTickets(Long userId) {
         try {
-            HttpEntity<?> request = new HttpEntity<>(createAuthHeaders());
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
 
             ResponseEntity<List<TicketDTO>> response = restTemplate.exchange(
                     baseUrl + "/tickets/user",
@@ -151,6 +195,53 @@ public class APIClient {
         }
     }
 
+    /**
+     * Retrieves one page of the tickets changed after a cursor
+     * IT Support receives every ticket, other users only their own
+     * @param cursor nextCursor returned by the previous call, or null to start from the oldest change
+     * @return Changed tickets, the cursor for the next call and whether to call again right away
+     * @throws RuntimeException if the API request fails
+     */
+    public TicketChangesDTO getTicketChanges(String cursor) {
+        try {
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
+
+            String url = baseUrl + "/tickets/changes?size=" + CHANGES_PAGE_SIZE;
+            if (cursor != null) {
+                url += "&cursor=" + cursor;
+            }
+
+            ResponseEntity<TicketChangesDTO> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    request,
+                    TicketChangesDTO.class
+            );
+
+            if (response.getStatusCode() == HttpStatus.OK) {
+                return response.getBody();
+            }
+            throw new RuntimeException("Failed to fetch ticket changes");
+        } catch (Exception e) {
+            throw new RuntimeException("Error fetching ticket changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts listening for ticket changes pushed by the backend
+     * IT Support receives every change, other users only changes to their own tickets.
+     * Both callbacks run on the subscription thread, not on the EDT
+     * @param onChange Receives each created or changed ticket
+     * @param onConnect Called after every (re)connect, so changes missed while disconnected can be fetched
+     * @return The running subscription; close it on logout
+     */
+    public TicketEventSubscription subscribeTicketEvents(Consumer<TicketDTO> onChange, Runnable onConnect) {
+        TicketEventSubscription subscription = new TicketEventSubscription(
+                restTemplate, baseUrl + "/tickets/stream", authHeaders, onChange, onConnect);
+        subscription.start();
+        return subscription;
+    }
+
     /**
      * Creates a new ticket in the system
      * @param ticket Data for the new ticket
@@ -160,7 +251,7 @@ public class APIClient {
      */
     public TicketDTO createTicket(TicketDTO ticket, Long userId) {
         try {
-            HttpEntity<TicketDTO> request = new HttpEntity<>(ticket, createAuthHeaders());
+            HttpEntity<TicketDTO> request = new HttpEntity<>(ticket, authHeaders);
 
             ResponseEntity<TicketDTO> response = restTemplate.exchange(
                     baseUrl + "/tickets",
@@ -176,8 +267,7 @@ public class APIClient {
             }
             throw new RuntimeException("Failed to create ticket");
         } catch (Exception e) {
-            // Debug logging
-            System.out.println("Error in createTicket: " + e.getMessage());
+            log.debug("Error in createTicket: " + e.getMessage());
             throw new RuntimeException("Error creating ticket: " + e.getMessage());
         }
     }
@@ -191,7 +281,7 @@ public class APIClient {
      */
     public void updateTicketStatus(Long ticketId, Status newStatus, Long userId) {
         try {
-            HttpEntity<?> request = new HttpEntity<>(createAuthHeaders());
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
 
             ResponseEntity<Void> response = restTemplate.exchange(
                     baseUrl + "/tickets/" + ticketId + "/status?newStatus=" + newStatus,
@@ -208,6 +298,64 @@ public class APIClient {
         }
     }
 
+    /**
+     * Moves several tickets to the same status in one request (requires IT Support role)
+     * @param ticketIds IDs of the tickets to update
+     * @param newStatus The new status to set
+     * @return Outcome per ticket
+     * @throws RuntimeException if the API request fails
+     */
+    public BulkStatusChangeResultDTO updateTicketStatuses(List<Long> ticketIds, Status newStatus) {
+        try {
+            HttpEntity<BulkStatusChangeRequest> request =
+                    new HttpEntity<>(new BulkStatusChangeRequest(ticketIds, newStatus), authHeaders);
+
+            ResponseEntity<BulkStatusChangeResultDTO> response = restTemplate.exchange(
+                    baseUrl + "/tickets/status",
+                    HttpMethod.PUT,
+                    request,
+                    BulkStatusChangeResultDTO.class
+            );
+
+            if (response.getStatusCode() != HttpStatus.OK) {
+                throw new RuntimeException("Failed to update ticket statuses");
+            }
+            return response.getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("Error updating ticket statuses: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Searches the words of ticket titles, descriptions and comments on the server, best match first
+     * @param query Free text
+     * @param size Maximum number of hits to return
+     * @return First page of hits with the total number of matches
+     * @throws RuntimeException if the API request fails
+     */
+    public TicketSearchPageDTO searchTickets(String query, int size) {
+        try {
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
+
+            // Template variables are encoded, so the query may contain any character
+            ResponseEntity<TicketSearchPageDTO> response = restTemplate.exchange(
+                    baseUrl + "/tickets/search?q={q}&size={size}",
+                    HttpMethod.GET,
+                    request,
+                    TicketSearchPageDTO.class,
+                    query,
+                    size
+            );
+
+            if (response.getStatusCode() == HttpStatus.OK) {
+                return response.getBody();
+            }
+            throw new RuntimeException("Failed to search tickets");
+        } catch (Exception e) {
+            throw new RuntimeException("Error searching tickets: " + e.getMessage());
+        }
+    }
+
     /**
      * Adds a comment to an existing ticket
      * @param ticketId ID of the ticket to comment on
@@ -217,7 +365,7 @@ public class APIClient {
      */
     public void addComment(Long ticketId, String content, Long userId) {
         try {
-            HttpEntity<String> request = new HttpEntity<>(content, createAuthHeaders());
+            HttpEntity<String> request = new HttpEntity<>(content, authHeaders);
 
             ResponseEntity<Void> response = restTemplate.exchange(
                     baseUrl + "/tickets/" + ticketId + "/comments",
@@ -235,20 +383,26 @@ public class APIClient {
     }
 
     /**
-     * Retrieves audit logs for the system (requires IT Support role)
+     * Retrieves one page of audit logs, newest first (requires IT Support role)
      * @param userId ID of the user making the request
-     * @return List of audit log entries
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @return Page of audit log entries
      * @throws RuntimeException if the API request fails
      */
-    public List<AuditLogDTO> getAuditLogs(Long userId) {
+    public AuditLogPageDTO getAuditLogs(Long userId, String cursor) {
         try {
-            HttpEntity<?> request = new HttpEntity<>(createAuthHeaders());
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
 
-            ResponseEntity<List<AuditLogDTO>> response = restTemplate.exchange(
-                    baseUrl + "/tickets/audit-logs",
+            String url = baseUrl + "/tickets/audit-logs";
+            if (cursor != null) {
+                url += "?cursor=" + cursor;
+            }
+
+            ResponseEntity<AuditLogPageDTO> response = restTemplate.exchange(
+                    url,
                     HttpMethod.GET,
                     request,
-                    new ParameterizedTypeReference<List<AuditLogDTO>>() {}
+                    AuditLogPageDTO.class
             );
 
             if (response.getStatusCode() == HttpStatus.OK) {
@@ -261,13 +415,45 @@ public class APIClient {
     }
 
     /**
-     * Retrieves user information by ID
+     * Retrieves ticket counts for the dashboard (requires IT Support role)
+     * @return Counts by status, priority and category, and open tickets by age
+     * @throws RuntimeException if the API request fails
+     */
+    public TicketStatsDTO getTicketStats() {
+        try {
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
+
+            ResponseEntity<TicketStatsDTO> response = restTemplate.exchange(
+                    baseUrl + "/tickets/stats",
+                    HttpMethod.GET,
+                    request,
+                    TicketStatsDTO.class
+            );
+
+            if (response.getStatusCode() == HttpStatus.OK) {
+                return response.getBody();
+            }
+            throw new RuntimeException("Failed to fetch ticket statistics");
+        } catch (Exception e) {
+            throw new RuntimeException("Error fetching ticket statistics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves user information by ID, answering from the session cache when possible
      * @param userId ID of the user to retrieve
      * @return User data or null if not found
      */
     public UserDTO getUser(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        UserDTO cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            HttpEntity<?> request = new HttpEntity<>(createAuthHeaders());
+            HttpEntity<?> request = new HttpEntity<>(authHeaders);
 
             ResponseEntity<UserDTO> response = restTemplate.exchange(
                     baseUrl + "/users/" + userId,
@@ -275,12 +461,58 @@ public class APIClient {
                     request,
                     UserDTO.class
             );
-            return response.getBody();
+            UserDTO user = response.getBody();
+            if (user != null) {
+                userCache.put(userId, user);
+            }
+            return user;
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * Resolves several users at once
+     * Users not yet in the session cache are fetched with a single request
+     * @param userIds IDs of the users to resolve, nulls are ignored
+     * @return Users keyed by ID; IDs that could not be resolved are missing
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> userIds) {
+        List<Long> missing = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(id -> !userCache.containsKey(id))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            try {
+                HttpEntity<?> request = new HttpEntity<>(authHeaders);
+                String ids = missing.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+                ResponseEntity<List<UserDTO>> response = restTemplate.exchange(
+                        baseUrl + "/users?ids=" + ids,
+                        HttpMethod.GET,
+                        request,
+                        new ParameterizedTypeReference<List<UserDTO>>() {}
+                );
+                if (response.getBody() != null) {
+                    response.getBody().forEach(user -> userCache.put(user.getId(), user));
+                }
+            } catch (Exception e) {
+                // Unresolved users are simply left out, callers show them as unknown
+            }
+        }
+
+        Map<Long, UserDTO> users = new HashMap<>();
+        for (Long userId : userIds) {
+            UserDTO user = userId == null ? null : userCache.get(userId);
+            if (user != null) {
+                users.put(userId, user);
+            }
+        }
+        return users;
+    }
+
     /**
      * Registers a new user in the system
      * @param request Registration data (username, password, role)
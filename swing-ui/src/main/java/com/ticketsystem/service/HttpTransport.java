@@ -0,0 +1,173 @@
+package com.ticketsystem.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * HTTP transport used by the APIClient
+ * Wraps a request factory with latency tracking and gzip response decoding,
+ * the default one is a shared JDK HttpClient that keeps connections alive and negotiates HTTP/2
+ */
+public class HttpTransport {
+    private static final Log log = LogFactory.getLog(HttpTransport.class);
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final TransportStats stats = new TransportStats();
+
+    /**
+     * Creates a transport on top of any request factory
+     * @param requestFactory Factory that opens the actual connections
+     */
+    public HttpTransport(ClientHttpRequestFactory requestFactory) {
+        this.requestFactory = requestFactory;
+    }
+
+    /**
+     * Creates the default transport with the default timeouts
+     * @return Transport backed by the JDK HttpClient
+     */
+    public static HttpTransport jdkHttpClient() {
+        return jdkHttpClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
+
+    /**
+     * Creates a transport backed by the JDK HttpClient
+     * The client pools connections per host, so repeated calls reuse the same sockets
+     * @param connectTimeout Maximum time to establish a connection
+     * @param readTimeout Maximum time to wait for a response
+     * @return Transport backed by the JDK HttpClient
+     */
+    public static HttpTransport jdkHttpClient(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new HttpTransport(requestFactory);
+    }
+
+    /**
+     * Creates a RestTemplate that sends its requests through this transport
+     * @return Configured RestTemplate
+     */
+    public RestTemplate createRestTemplate() {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(List.of(this::timeRequest, HttpTransport::acceptGzip));
+        return restTemplate;
+    }
+
+    /**
+     * @return Latency statistics of the requests sent through this transport
+     */
+    public TransportStats getStats() {
+        return stats;
+    }
+
+    private ClientHttpResponse timeRequest(HttpRequest request, byte[] body,
+                                           ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "failed";
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().isError();
+            outcome = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            stats.record(nanos, failed);
+            if (log.isTraceEnabled()) {
+                // Method, URI and status only; headers carry credentials
+                log.trace(request.getMethod() + " " + request.getURI() + " -> " + outcome
+                        + " in " + nanos / 1_000_000 + "ms");
+            }
+        }
+    }
+
+    private static ClientHttpResponse acceptGzip(HttpRequest request, byte[] body,
+                                                 ClientHttpRequestExecution execution) throws IOException {
+        // The JDK HttpClient does not decode compressed responses by itself
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ClientHttpResponse response = execution.execute(request, body);
+        if ("gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            return new GzipResponse(response);
+        }
+        return response;
+    }
+
+    /**
+     * Response whose body is decompressed while it is read
+     */
+    private static class GzipResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        GzipResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+            // The decoded body no longer matches the encoding or length announced by the server
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                PushbackInputStream raw = new PushbackInputStream(delegate.getBody());
+                int first = raw.read();
+                if (first == -1) {
+                    // Empty responses carry no gzip header to decode
+                    body = InputStream.nullInputStream();
+                } else {
+                    raw.unread(first);
+                    body = new GZIPInputStream(raw);
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
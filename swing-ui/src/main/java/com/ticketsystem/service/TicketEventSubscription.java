@@ -0,0 +1,152 @@
+package com.ticketsystem.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ticketsystem.model.TicketDTO;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Live subscription to the backend's ticket event stream (Server-Sent Events)
+ * Runs on its own daemon thread and reconnects with backoff until closed
+ */
+public class TicketEventSubscription implements AutoCloseable {
+    private static final Log log = LogFactory.getLog(TicketEventSubscription.class);
+
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final HttpHeaders headers;
+    private final Consumer<TicketDTO> onChange;
+    private final Runnable onConnect;
+    private final Thread thread;
+
+    private volatile boolean closed;
+    private volatile InputStream current;
+
+    /**
+     * @param restTemplate Template used to open the stream
+     * @param url URL of the event stream
+     * @param headers Authentication headers sent with every connection attempt
+     * @param onChange Receives each changed ticket, called on the subscription thread
+     * @param onConnect Called on the subscription thread after every (re)connect, so missed changes can be fetched
+     */
+    TicketEventSubscription(RestTemplate restTemplate, String url, HttpHeaders headers,
+                            Consumer<TicketDTO> onChange, Runnable onConnect) {
+        this.restTemplate = restTemplate;
+        this.url = url;
+        this.headers = headers;
+        this.onChange = onChange;
+        this.onConnect = onConnect;
+        this.thread = new Thread(this::run, "ticket-events");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops listening and closes the open connection
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Closing the response would first drain the body, which never ends for an event stream
+        InputStream body = current;
+        if (body != null) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (!closed) {
+            try {
+                restTemplate.execute(url, HttpMethod.GET,
+                        request -> {
+                            request.getHeaders().putAll(headers);
+                            request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        },
+                        response -> {
+                            current = response.getBody();
+                            onConnect.run();
+                            readEvents(current);
+                            return null;
+                        });
+            } catch (Exception e) {
+                if (closed) {
+                    return;
+                }
+                log.debug("Ticket event stream failed: " + e.getMessage());
+            }
+
+            // A stream that was established counts as healthy, so the next attempt starts with a short wait
+            if (current != null) {
+                current = null;
+                backoff = INITIAL_BACKOFF_MILLIS;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    /**
+     * Reads events until the stream ends; only data lines matter, every event carries a ticket
+     */
+    private void readEvents(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        StringBuilder data = new StringBuilder();
+        String line;
+        while (!closed && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                // A blank line ends an event
+                if (data.length() > 0) {
+                    dispatch(data.toString());
+                    data.setLength(0);
+                }
+            } else if (line.startsWith("data:")) {
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(line.substring(line.startsWith("data: ") ? 6 : 5));
+            }
+        }
+    }
+
+    private void dispatch(String json) {
+        try {
+            onChange.accept(OBJECT_MAPPER.readValue(json, TicketDTO.class));
+        } catch (IOException e) {
+            log.debug("Ignoring malformed ticket event: " + e.getMessage());
+        }
+    }
+}
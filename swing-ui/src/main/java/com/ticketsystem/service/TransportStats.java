@@ -0,0 +1,69 @@
+package com.ticketsystem.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request latency statistics for an HTTP transport
+ * Latency is measured until the response headers arrive; safe to update from any thread
+ */
+public class TransportStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one completed request
+     * @param nanos Time the request took
+     * @param failed true if the request failed or returned an error status
+     */
+    void record(long nanos, boolean failed) {
+        requests.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Mean request latency in milliseconds, or 0 if nothing was recorded
+     */
+    public double getAverageMillis() {
+        long count = requests.sum();
+        return count == 0 ? 0 : totalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return Slowest request latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Clears all recorded values
+     */
+    public void reset() {
+        requests.reset();
+        failures.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, failures=%d, avg=%.1fms, max=%.1fms",
+                getRequestCount(), getFailureCount(), getAverageMillis(), getMaxMillis());
+    }
+}
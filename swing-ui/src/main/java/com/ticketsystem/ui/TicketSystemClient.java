@@ -2,9 +2,11 @@ package com.ticketsystem.ui;
 
 import javax.swing.*;
 import com.ticketsystem.model.*;
+import com.ticketsystem.util.BackgroundTask;
 import com.ticketsystem.util.TicketTableModel;
 import net.miginfocom.swing.MigLayout;
 import com.ticketsystem.service.APIClient;
+import com.ticketsystem.service.TicketEventSubscription;
 
 import javax.swing.border.Border;
 import javax.swing.border.TitledBorder;
@@ -17,8 +19,12 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 
 public class TicketSystemClient extends JFrame {
@@ -40,6 +46,18 @@ public class TicketSystemClient extends JFrame {
     private TicketTableModel ticketTableModel;
     private JTable ticketsTable;
 
+    // Background work; network calls never run on the EDT
+    private BackgroundTask<UserDTO> loginTask;
+    private BackgroundTask<TicketChangesDTO> refreshTask;
+    // Cursor of the last ticket sync; null with ticketsLoaded false forces a full reload
+    private String ticketCursor;
+    private boolean ticketsLoaded;
+    // Live ticket changes pushed by the backend while logged in
+    private TicketEventSubscription ticketEvents;
+    // Full-text hits narrowing the table; the server's maximum page size
+    private static final int FULL_TEXT_SEARCH_HITS = 200;
+    private JProgressBar loadingBar;
+
     // Action buttons
     private JButton changeStatusButton;
     private JButton addCommentButton;
@@ -354,11 +372,21 @@ public class TicketSystemClient extends JFrame {
                 }
 
                 RegisterRequest request = new RegisterRequest(username, password, role);
-                apiClient.register(request);
-
-                // Show success dialog with animation
-                showNotification("Registration successful! Please login.", ACCENT_COLOR);
-                dialog.dispose();
+                submitButton.setEnabled(false);
+                BackgroundTask.start(dialog, null,
+                        () -> {
+                            apiClient.register(request);
+                            return null;
+                        },
+                        result -> {
+                            // Show success dialog with animation
+                            showNotification("Registration successful! Please login.", ACCENT_COLOR);
+                            dialog.dispose();
+                        },
+                        ex -> {
+                            submitButton.setEnabled(true);
+                            showErrorDialog(dialog, "Registration failed", ex.getMessage());
+                        });
             } catch (Exception ex) {
                 showErrorDialog(dialog, "Registration failed", ex.getMessage());
             }
@@ -395,44 +423,56 @@ public class TicketSystemClient extends JFrame {
             return;
         }
 
-        try {
-            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
-            LoginRequest loginRequest = new LoginRequest(username, password);
-            UserDTO user = apiClient.login(loginRequest);
+        // Ignore repeated submits while a login is in flight
+        if (loginTask != null && !loginTask.isDone()) {
+            return;
+        }
 
-            if (user != null) {
-                currentUser = user;
+        LoginRequest loginRequest = new LoginRequest(username, password);
+        loginTask = BackgroundTask.start(this, null,
+                () -> apiClient.login(loginRequest),
+                user -> {
+                    if (user != null) {
+                        currentUser = user;
 
-                // Clear sensitive data
-                usernameField.setText("");
-                passwordField.setText("");
+                        // Clear sensitive data
+                        usernameField.setText("");
+                        passwordField.setText("");
 
-                // Create main panel after knowing user role
-                createMainPanel();
+                        // Create main panel after knowing user role
+                        createMainPanel();
 
-                // Show welcome notification
-                showNotification("Welcome, " + user.getUsername() + "!", ACCENT_COLOR);
+                        // Show welcome notification
+                        showNotification("Welcome, " + user.getUsername() + "!", ACCENT_COLOR);
 
-                // Switch to main panel
-                cardLayout.show(contentPanel, "main");
-                refreshTickets();
-            } else {
-                showErrorDialog(this, "Login Error", "Invalid credentials");
-            }
-        } catch (RuntimeException ex) {
-            ex.printStackTrace();
-            // Display the specific error message from the APIClient
-            showErrorDialog(this, "Login Error", ex.getMessage());
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            showErrorDialog(this, "Login Error", "An unexpected error occurred. Please try again.");
-        } finally {
-            setCursor(Cursor.getDefaultCursor());
-        }
+                        // Switch to main panel
+                        cardLayout.show(contentPanel, "main");
+                        refreshTickets();
+                        subscribeTicketEvents();
+                    } else {
+                        showErrorDialog(this, "Login Error", "Invalid credentials");
+                    }
+                },
+                ex -> {
+                    if (ex instanceof RuntimeException) {
+                        // Display the specific error message from the APIClient
+                        showErrorDialog(this, "Login Error", ex.getMessage());
+                    } else {
+                        showErrorDialog(this, "Login Error", "An unexpected error occurred. Please try again.");
+                    }
+                });
     }
 
     private void handleLogout() {
+        BackgroundTask.cancel(refreshTask);
+        if (ticketEvents != null) {
+            ticketEvents.close();
+            ticketEvents = null;
+        }
+        apiClient.logout();
         currentUser = null;
+        ticketCursor = null;
+        ticketsLoaded = false;
         ticketTableModel.setTickets(null);
         contentPanel.remove(mainPanel);
         cardLayout.show(contentPanel, "login");
@@ -601,6 +641,7 @@ public class TicketSystemClient extends JFrame {
 
         // If IT Support, add Reports button
         if (currentUser.isItSupport()) {
+            dashboardButton.addActionListener(e -> showDashboard());
             JButton reportsButton = createSidebarButton("Audit Logs", "/icons/reports.png");
             menuPanel.add(reportsButton, "growx, wrap");
             reportsButton.addActionListener(e -> showAuditLogDialog());
@@ -681,6 +722,13 @@ public class TicketSystemClient extends JFrame {
         JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
         actionPanel.setBackground(SURFACE_COLOR);
 
+        // Shown while tickets load in the background
+        loadingBar = new JProgressBar();
+        loadingBar.setIndeterminate(true);
+        loadingBar.setPreferredSize(new Dimension(120, 8));
+        loadingBar.setVisible(false);
+        actionPanel.add(loadingBar);
+
         // Add action buttons based on role
         if (!currentUser.isItSupport()) {
             JButton createTicketButton = new JButton("Create Ticket");
@@ -769,7 +817,7 @@ public class TicketSystemClient extends JFrame {
         searchBarPanel.setBackground(SURFACE_COLOR);
 
         // Search type combo box with modern styling
-        String[] searchOptions = {"ID", "Title"};
+        String[] searchOptions = {"ID", "Title", "Full text"};
         JComboBox<String> searchTypeCombo = new JComboBox<>(searchOptions);
         searchTypeCombo.setFont(REGULAR_FONT);
         searchTypeCombo.setBackground(SURFACE_COLOR);
@@ -858,6 +906,11 @@ public class TicketSystemClient extends JFrame {
                 return;
             }
 
+            if ("Full text".equals(searchType)) {
+                searchFullText(searchText);
+                return;
+            }
+
             TableRowSorter<TicketTableModel> sorter = new TableRowSorter<>(ticketTableModel);
 
             switch (searchType) {
@@ -906,6 +959,35 @@ public class TicketSystemClient extends JFrame {
         return searchPanel;
     }
 
+    /**
+     * Searches descriptions and comments on the server, which also covers tickets the table does not show yet,
+     * then narrows the table to the matching tickets
+     */
+    private void searchFullText(String query) {
+        BackgroundTask.start(this, loadingBar,
+                () -> apiClient.searchTickets(query, FULL_TEXT_SEARCH_HITS),
+                page -> {
+                    Set<Long> ticketIds = page.getHits().stream()
+                            .map(hit -> hit.getTicket().getId())
+                            .collect(Collectors.toSet());
+                    TableRowSorter<TicketTableModel> sorter = new TableRowSorter<>(ticketTableModel);
+                    sorter.setRowFilter(new RowFilter<>() {
+                        @Override
+                        public boolean include(Entry<? extends TicketTableModel, ? extends Integer> entry) {
+                            return ticketIds.contains(ticketTableModel.getTicketAt(entry.getIdentifier()).getId());
+                        }
+                    });
+                    ticketsTable.setRowSorter(sorter);
+
+                    String message = "Found " + page.getTotalHits() + " matching tickets";
+                    if (page.isHasMore()) {
+                        message += ", showing the best " + page.getHits().size();
+                    }
+                    showNotification(message, SECONDARY_COLOR);
+                },
+                ex -> showErrorDialog(this, "Search Error", "Failed to search tickets: " + ex.getMessage()));
+    }
+
     private JButton createFilterPill(String text, Color color) {
         JButton pill = new JButton(text);
         pill.setFont(SMALL_FONT);
@@ -1017,9 +1099,9 @@ public class TicketSystemClient extends JFrame {
 
             // Enable/disable buttons based on selection
             ticketsTable.getSelectionModel().addListSelectionListener(e -> {
-                boolean hasSelection = ticketsTable.getSelectedRow() != -1;
-                changeStatusButton.setEnabled(hasSelection);
-                addCommentButton.setEnabled(hasSelection);
+                int selected = ticketsTable.getSelectedRowCount();
+                changeStatusButton.setEnabled(selected > 0);
+                addCommentButton.setEnabled(selected == 1);
             });
 
             actionPanel.add(changeStatusButton);
@@ -1068,7 +1150,10 @@ public class TicketSystemClient extends JFrame {
         ticketsTable.setRowSorter(sorter);
 
         // Configure basic table properties
-        ticketsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // IT support can select several tickets to change their status together
+        ticketsTable.setSelectionMode(currentUser.isItSupport()
+                ? ListSelectionModel.MULTIPLE_INTERVAL_SELECTION
+                : ListSelectionModel.SINGLE_SELECTION);
         ticketsTable.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
         ticketsTable.getTableHeader().setReorderingAllowed(true);
         ticketsTable.setRowHeight(40);
@@ -1254,6 +1339,20 @@ public class TicketSystemClient extends JFrame {
     }
 
     private void showTicketDetailsDialog(TicketDTO ticket) {
+        // Resolve the creator and every comment author in one request before building the dialog
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(ticket.getCreatedById());
+        if (ticket.getTicketComments() != null) {
+            ticket.getTicketComments().forEach(comment -> userIds.add(comment.getCreatedById()));
+        }
+
+        BackgroundTask.start(this, loadingBar,
+                () -> apiClient.getUsers(userIds),
+                users -> showTicketDetailsDialog(ticket, users),
+                ex -> showTicketDetailsDialog(ticket, Map.of()));
+    }
+
+    private void showTicketDetailsDialog(TicketDTO ticket, Map<Long, UserDTO> users) {
         JDialog dialog = new JDialog(this, "Ticket Details", true);
         dialog.setLayout(new BorderLayout());
         dialog.getContentPane().setBackground(SURFACE_COLOR);
@@ -1315,16 +1414,8 @@ public class TicketSystemClient extends JFrame {
         contentPanel.add(createBoldLabel("Created:"), "cell 0 4");
         String createdDateStr = ticket.getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
 
-        // Get creator username
-        String creatorUsername = "Unknown";
-        try {
-            UserDTO creator = apiClient.getUser(ticket.getCreatedById());
-            if (creator != null) {
-                creatorUsername = creator.getUsername();
-            }
-        } catch (Exception e) {
-            // Handle silently
-        }
+        UserDTO creator = users.get(ticket.getCreatedById());
+        String creatorUsername = creator != null ? creator.getUsername() : "Unknown";
 
         contentPanel.add(new JLabel(createdDateStr + " by " + creatorUsername), "cell 1 4, wrap");
 
@@ -1354,7 +1445,9 @@ public class TicketSystemClient extends JFrame {
         if (ticket.getTicketComments() != null && !ticket.getTicketComments().isEmpty()) {
             for (CommentDTO comment : ticket.getTicketComments()) {
                 // Create comment panel
-                JPanel commentPanel = createCommentPanel(comment);
+                UserDTO commentUser = users.get(comment.getCreatedById());
+                JPanel commentPanel = createCommentPanel(comment,
+                        commentUser != null ? commentUser.getUsername() : "Unknown");
                 commentsContentPanel.add(commentPanel);
                 commentsContentPanel.add(Box.createVerticalStrut(10)); // Add spacing
             }
@@ -1420,7 +1513,7 @@ public class TicketSystemClient extends JFrame {
         dialog.setVisible(true);
     }
 
-    private JPanel createCommentPanel(CommentDTO comment) {
+    private JPanel createCommentPanel(CommentDTO comment, String username) {
         JPanel panel = new JPanel(new BorderLayout(10, 5));
         panel.setBackground(new Color(248, 249, 250));
         panel.setBorder(BorderFactory.createCompoundBorder(
@@ -1428,17 +1521,6 @@ public class TicketSystemClient extends JFrame {
                 BorderFactory.createEmptyBorder(10, 15, 10, 15)
         ));
 
-        // Get username
-        String username = "Unknown";
-        try {
-            UserDTO commentUser = apiClient.getUser(comment.getCreatedById());
-            if (commentUser != null) {
-                username = commentUser.getUsername();
-            }
-        } catch (Exception e) {
-            // Handle silently
-        }
-
         // Header with username and date
         JPanel headerPanel = new JPanel(new BorderLayout());
         headerPanel.setBackground(new Color(248, 249, 250));
@@ -1489,14 +1571,20 @@ public class TicketSystemClient extends JFrame {
     }
 
     private void showChangeStatusDialog() {
-        int selectedRow = ticketsTable.getSelectedRow();
-        if (selectedRow == -1) {
+        int[] selectedRows = ticketsTable.getSelectedRows();
+        if (selectedRows.length == 0) {
             showErrorDialog(this, "Error", "Please select a ticket first");
             return;
         }
 
-        selectedRow = ticketsTable.convertRowIndexToModel(selectedRow);
-        TicketDTO ticket = ticketTableModel.getTicketAt(selectedRow);
+        List<TicketDTO> tickets = new ArrayList<>(selectedRows.length);
+        for (int row : selectedRows) {
+            tickets.add(ticketTableModel.getTicketAt(ticketsTable.convertRowIndexToModel(row)));
+        }
+        // Null if the selected tickets have different statuses
+        Status currentStatus = tickets.stream().allMatch(selected -> selected.getStatus() == tickets.get(0).getStatus())
+                ? tickets.get(0).getStatus()
+                : null;
 
         JDialog dialog = new JDialog(this, "Change Ticket Status", true);
         dialog.setLayout(new BorderLayout());
@@ -1507,7 +1595,9 @@ public class TicketSystemClient extends JFrame {
         headerPanel.setBackground(PRIMARY_COLOR);
         headerPanel.setBorder(BorderFactory.createEmptyBorder(15, 25, 15, 25));
 
-        JLabel titleLabel = new JLabel("Update Ticket #" + ticket.getId() + " Status");
+        JLabel titleLabel = new JLabel(tickets.size() == 1
+                ? "Update Ticket #" + tickets.get(0).getId() + " Status"
+                : "Update Status of " + tickets.size() + " Tickets");
         titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
         titleLabel.setForeground(Color.WHITE);
         headerPanel.add(titleLabel, BorderLayout.CENTER);
@@ -1519,13 +1609,15 @@ public class TicketSystemClient extends JFrame {
         JLabel currentStatusLabel = new JLabel("Current Status:");
         currentStatusLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
 
-        JLabel statusValueLabel = createStyledLabel(ticket.getStatus().toString(), getStatusColor(ticket.getStatus()));
+        JLabel statusValueLabel = currentStatus != null
+                ? createStyledLabel(currentStatus.toString(), getStatusColor(currentStatus))
+                : createStyledLabel("MIXED", TEXT_COLOR);
 
         JLabel newStatusLabel = new JLabel("New Status:");
         newStatusLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
 
         JComboBox<Status> statusCombo = new JComboBox<>(Status.values());
-        statusCombo.setSelectedItem(ticket.getStatus());
+        statusCombo.setSelectedItem(currentStatus != null ? currentStatus : tickets.get(0).getStatus());
         statusCombo.setFont(REGULAR_FONT);
         statusCombo.setPreferredSize(new Dimension(200, 35));
 
@@ -1549,14 +1641,24 @@ public class TicketSystemClient extends JFrame {
         updateButton.addActionListener(e -> {
             try {
                 Status newStatus = (Status) statusCombo.getSelectedItem();
-                if (newStatus == ticket.getStatus()) {
+                if (newStatus == currentStatus) {
                     showErrorDialog(dialog, "Validation Error", "Please select a different status");
                     return;
                 }
 
-                apiClient.updateTicketStatus(ticket.getId(), newStatus, currentUser.getId());
-                showNotification("Status updated successfully", ACCENT_COLOR);
-                dialog.dispose();
+                // One request for the whole selection; the table is refreshed by the ticket event stream
+                List<Long> ticketIds = tickets.stream().map(TicketDTO::getId).toList();
+                updateButton.setEnabled(false);
+                BackgroundTask.start(dialog, null,
+                        () -> apiClient.updateTicketStatuses(ticketIds, newStatus),
+                        result -> {
+                            showNotification(statusChangeMessage(result, ticketIds.size()), ACCENT_COLOR);
+                            dialog.dispose();
+                        },
+                        ex -> {
+                            updateButton.setEnabled(true);
+                            showErrorDialog(dialog, "Error", "Failed to update status: " + ex.getMessage());
+                        });
             } catch (Exception ex) {
                 showErrorDialog(dialog, "Error", "Failed to update status: " + ex.getMessage());
             }
@@ -1575,6 +1677,17 @@ public class TicketSystemClient extends JFrame {
         dialog.setVisible(true);
     }
 
+    private static String statusChangeMessage(BulkStatusChangeResultDTO result, int requested) {
+        if (requested == 1 && result.getUpdatedCount() == 1) {
+            return "Status updated successfully";
+        }
+        long missing = result.getResults().stream()
+                .filter(change -> change.getOutcome() == StatusChangeOutcome.NOT_FOUND)
+                .count();
+        String message = "Updated " + result.getUpdatedCount() + " of " + requested + " tickets";
+        return missing > 0 ? message + " (" + missing + " no longer exist)" : message;
+    }
+
     private void showAddCommentDialog() {
         int selectedRow = ticketsTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -1641,9 +1754,20 @@ public class TicketSystemClient extends JFrame {
                     return;
                 }
 
-                apiClient.addComment(ticket.getId(), comment, currentUser.getId());
-                showNotification("Comment added successfully", ACCENT_COLOR);
-                dialog.dispose();
+                submitButton.setEnabled(false);
+                BackgroundTask.start(dialog, null,
+                        () -> {
+                            apiClient.addComment(ticket.getId(), comment, currentUser.getId());
+                            return null;
+                        },
+                        result -> {
+                            showNotification("Comment added successfully", ACCENT_COLOR);
+                            dialog.dispose();
+                        },
+                        ex -> {
+                            submitButton.setEnabled(true);
+                            showErrorDialog(dialog, "Error", "Failed to add comment: " + ex.getMessage());
+                        });
             } catch (Exception ex) {
                 showErrorDialog(dialog, "Error", "Failed to add comment: " + ex.getMessage());
             }
@@ -1662,6 +1786,84 @@ public class TicketSystemClient extends JFrame {
         dialog.setVisible(true);
     }
 
+    /**
+     * Loads the ticket statistics the server aggregates and shows them; no tickets are downloaded for it
+     */
+    private void showDashboard() {
+        BackgroundTask.start(this, loadingBar,
+                () -> apiClient.getTicketStats(),
+                this::showDashboardDialog,
+                ex -> showErrorDialog(this, "Error", "Failed to load statistics: " + ex.getMessage()));
+    }
+
+    private void showDashboardDialog(TicketStatsDTO stats) {
+        JDialog dialog = new JDialog(this, "Dashboard", true);
+        dialog.setLayout(new BorderLayout());
+        dialog.getContentPane().setBackground(SURFACE_COLOR);
+
+        // Header panel
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.setBackground(PRIMARY_COLOR);
+        headerPanel.setBorder(BorderFactory.createEmptyBorder(15, 25, 15, 25));
+
+        JLabel titleLabel = new JLabel(stats.getOpenCount() + " open of " + stats.getTotalCount() + " tickets");
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        titleLabel.setForeground(Color.WHITE);
+        headerPanel.add(titleLabel, BorderLayout.WEST);
+
+        // One column of counts per breakdown
+        JPanel contentPanel = new JPanel(new MigLayout("insets 20, gap 30", "[][][][]", "[top]"));
+        contentPanel.setBackground(SURFACE_COLOR);
+        contentPanel.add(createCountPanel("By Status", stats.getByStatus()));
+        contentPanel.add(createCountPanel("By Priority", stats.getByPriority()));
+        contentPanel.add(createCountPanel("By Category", stats.getByCategory()));
+
+        Map<String, Long> age = new LinkedHashMap<>();
+        OpenTicketAgeDTO openTicketAge = stats.getOpenTicketAge();
+        if (openTicketAge != null) {
+            age.put("Under 1 day", openTicketAge.getUnderOneDay());
+            age.put("1 to 7 days", openTicketAge.getOneToSevenDays());
+            age.put("7 to 30 days", openTicketAge.getSevenToThirtyDays());
+            age.put("Over 30 days", openTicketAge.getOverThirtyDays());
+        }
+        contentPanel.add(createCountPanel("Open Tickets by Age", age));
+
+        JButton closeButton = new JButton("Close");
+        closeButton.setFont(BUTTON_FONT);
+        closeButton.addActionListener(e -> dialog.dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.setBackground(SURFACE_COLOR);
+        buttonPanel.add(closeButton);
+
+        dialog.add(headerPanel, BorderLayout.NORTH);
+        dialog.add(contentPanel, BorderLayout.CENTER);
+        dialog.add(buttonPanel, BorderLayout.SOUTH);
+
+        dialog.pack();
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+    }
+
+    private JPanel createCountPanel(String title, Map<?, Long> counts) {
+        JPanel panel = new JPanel(new MigLayout("insets 0", "[]20[right]", ""));
+        panel.setBackground(SURFACE_COLOR);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        titleLabel.setForeground(TEXT_COLOR);
+        panel.add(titleLabel, "span 2, wrap, gapbottom 8");
+
+        counts.forEach((key, count) -> {
+            JLabel keyLabel = new JLabel(key.toString());
+            keyLabel.setFont(REGULAR_FONT);
+            JLabel countLabel = new JLabel(String.valueOf(count));
+            countLabel.setFont(REGULAR_FONT);
+            panel.add(keyLabel);
+            panel.add(countLabel, "wrap");
+        });
+        return panel;
+    }
+
     private void showAuditLogDialog() {
         JDialog dialog = new JDialog(this, "Audit Log", true);
         dialog.setLayout(new BorderLayout());
@@ -1725,26 +1927,59 @@ public class TicketSystemClient extends JFrame {
         tableScroll.setBorder(BorderFactory.createEmptyBorder());
         tableScroll.getViewport().setBackground(SURFACE_COLOR);
 
-        try {
-            List<AuditLogDTO> auditLogs = apiClient.getAuditLogs(currentUser.getId());
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-
-            for (AuditLogDTO log : auditLogs) {
-                UserDTO user = apiClient.getUser(log.getPerformedById());
-                String performedBy = user != null ? user.getUsername() : "Unknown";
-
-                model.addRow(new Object[]{
-                        log.getTicketId(),
-                        log.getAction(),
-                        log.getOldValue(),
-                        log.getNewValue(),
-                        performedBy,
-                        log.getCreatedDate().format(formatter)
-                });
+        JButton loadMoreButton = new JButton("Load More");
+        loadMoreButton.setFont(BUTTON_FONT);
+        loadMoreButton.setPreferredSize(new Dimension(120, 40));
+
+        // Audit logs are served in pages; keep the cursor of the last page loaded
+        String[] nextCursor = {null};
+        BackgroundTask<?>[] pageTask = {null};
+        Runnable loadPage = () -> {
+            loadMoreButton.setEnabled(false);
+            String cursor = nextCursor[0];
+            pageTask[0] = BackgroundTask.start(dialog, null,
+                    () -> {
+                        AuditLogPageDTO page = apiClient.getAuditLogs(currentUser.getId(), cursor);
+                        // Resolve every user on the page in one request
+                        Map<Long, UserDTO> users = apiClient.getUsers(page.getAuditLogs().stream()
+                                .map(AuditLogDTO::getPerformedById)
+                                .toList());
+                        return Map.entry(page, users);
+                    },
+                    result -> {
+                        AuditLogPageDTO page = result.getKey();
+                        Map<Long, UserDTO> users = result.getValue();
+                        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+                        for (AuditLogDTO log : page.getAuditLogs()) {
+                            UserDTO user = users.get(log.getPerformedById());
+                            String performedBy = user != null ? user.getUsername() : "Unknown";
+
+                            model.addRow(new Object[]{
+                                    log.getTicketId(),
+                                    log.getAction(),
+                                    log.getOldValue(),
+                                    log.getNewValue(),
+                                    performedBy,
+                                    log.getCreatedDate().format(formatter)
+                            });
+                        }
+
+                        nextCursor[0] = page.getNextCursor();
+                        loadMoreButton.setEnabled(page.isHasMore());
+                    },
+                    e -> showErrorDialog(dialog, "Error", "Failed to load audit log: " + e.getMessage()));
+        };
+        loadPage.run();
+        loadMoreButton.addActionListener(e -> loadPage.run());
+
+        // Drop any page still in flight once the dialog goes away
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                BackgroundTask.cancel(pageTask[0]);
             }
-        } catch (Exception e) {
-            showErrorDialog(dialog, "Error", "Failed to load audit log: " + e.getMessage());
-        }
+        });
 
         // Add search functionality
         searchButton.addActionListener(e -> {
@@ -1772,6 +2007,7 @@ public class TicketSystemClient extends JFrame {
         closeButton.setFont(BUTTON_FONT);
         closeButton.setPreferredSize(new Dimension(100, 40));
         closeButton.addActionListener(e -> dialog.dispose());
+        buttonPanel.add(loadMoreButton);
         buttonPanel.add(closeButton);
 
         // Add components to dialog
@@ -1899,10 +2135,18 @@ public class TicketSystemClient extends JFrame {
                 ticket.setPriority((Priority) priorityCombo.getSelectedItem());
                 ticket.setCategory((Category) categoryCombo.getSelectedItem());
 
-                apiClient.createTicket(ticket, currentUser.getId());
-                showNotification("Ticket created successfully", ACCENT_COLOR);
-                dialog.dispose();
-             //   refreshTickets();
+                submitButton.setEnabled(false);
+                BackgroundTask.start(dialog, null,
+                        () -> apiClient.createTicket(ticket, currentUser.getId()),
+                        created -> {
+                            showNotification("Ticket created successfully", ACCENT_COLOR);
+                            dialog.dispose();
+                         //   refreshTickets();
+                        },
+                        ex -> {
+                            submitButton.setEnabled(true);
+                            showErrorDialog(dialog, "Error", "Failed to create ticket: " + ex.getMessage());
+                        });
             } catch (Exception ex) {
                 showErrorDialog(dialog, "Error", "Failed to create ticket: " + ex.getMessage());
             }
@@ -1922,27 +2166,51 @@ public class TicketSystemClient extends JFrame {
     }
 
     private void refreshTickets() {
-        try {
-            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
-            List<TicketDTO> tickets;
-
-            if (currentUser.isItSupport()) {
-                tickets = apiClient.getAllTickets(currentUser.getId());
-            } else {
-                tickets = apiClient.getUserTickets(currentUser.getId());
-            }
-
-            ticketTableModel.setTickets(tickets);
+        // A newer refresh supersedes one still in flight
+        BackgroundTask.cancel(refreshTask);
+
+        // Only tickets changed since the last sync are downloaded and merged into the table
+        String cursor = ticketCursor;
+        boolean reload = !ticketsLoaded;
+        refreshTask = BackgroundTask.start(this, loadingBar,
+                () -> {
+                    // Pages follow each other until the backend has no more changes waiting
+                    List<TicketDTO> tickets = new ArrayList<>();
+                    TicketChangesDTO page = new TicketChangesDTO(tickets, cursor, true);
+                    while (page.isHasMore()) {
+                        page = apiClient.getTicketChanges(page.getNextCursor());
+                        tickets.addAll(page.getTickets());
+                    }
+                    return new TicketChangesDTO(tickets, page.getNextCursor(), false);
+                },
+                changes -> {
+                    List<TicketDTO> tickets = changes.getTickets();
+                    if (reload) {
+                        ticketTableModel.setTickets(tickets);
+                        showNotification("Loaded " + tickets.size() + " tickets", SECONDARY_COLOR);
+                    } else if (!tickets.isEmpty()) {
+                        ticketTableModel.mergeTickets(tickets);
+                        showNotification(tickets.size() + " tickets updated", SECONDARY_COLOR);
+                    }
+                    ticketCursor = changes.getNextCursor();
+                    ticketsLoaded = true;
+                },
+                ex -> showErrorDialog(this, "Error", "Failed to refresh tickets: " + ex.getMessage()));
+    }
 
-            // Show success notification
-            if (tickets != null) {
-                showNotification("Loaded " + tickets.size() + " tickets", SECONDARY_COLOR);
-            }
-        } catch (Exception ex) {
-            showErrorDialog(this, "Error", "Failed to refresh tickets: " + ex.getMessage());
-        } finally {
-            setCursor(Cursor.getDefaultCursor());
-        }
+    /**
+     * Patches table rows as the backend pushes ticket changes
+     * Every reconnect runs a delta refresh to pick up changes made while the stream was down
+     */
+    private void subscribeTicketEvents() {
+        ticketEvents = apiClient.subscribeTicketEvents(
+                ticket -> SwingUtilities.invokeLater(() -> ticketTableModel.mergeTickets(List.of(ticket))),
+                () -> SwingUtilities.invokeLater(() -> {
+                    // The initial load already covers the first connect
+                    if (ticketsLoaded && currentUser != null) {
+                        refreshTickets();
+                    }
+                }));
     }
 
     private void applyFilters(Category category, Priority priority, Status status, Date fromDate, Date toDate) {
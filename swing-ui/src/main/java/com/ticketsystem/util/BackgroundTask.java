@@ -0,0 +1,117 @@
+package com.ticketsystem.util;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Runs a blocking API call on a background thread and hands the outcome back on the EDT
+ * A cancelled task never calls its callbacks, so a stale response cannot overwrite newer data
+ */
+public class BackgroundTask<T> extends SwingWorker<T, Void> {
+    // Running tasks per busy/progress component, only touched on the EDT
+    private static final Map<Component, Integer> ACTIVE_TASKS = new WeakHashMap<>();
+
+    private final Callable<T> call;
+    private final Consumer<T> onSuccess;
+    private final Consumer<Exception> onError;
+    private final Component busyComponent;
+    private final JComponent progressIndicator;
+
+    private BackgroundTask(Callable<T> call, Consumer<T> onSuccess, Consumer<Exception> onError,
+                           Component busyComponent, JComponent progressIndicator) {
+        this.call = call;
+        this.onSuccess = onSuccess;
+        this.onError = onError;
+        this.busyComponent = busyComponent;
+        this.progressIndicator = progressIndicator;
+    }
+
+    /**
+     * Starts a task; must be called on the EDT
+     * @param busyComponent Component showing a wait cursor while the task runs, may be null
+     * @param progressIndicator Component made visible while the task runs, may be null
+     * @param call The blocking call to run off the EDT
+     * @param onSuccess Receives the result on the EDT
+     * @param onError Receives the failure on the EDT
+     * @return The running task, which can be cancelled
+     */
+    public static <T> BackgroundTask<T> start(Component busyComponent, JComponent progressIndicator,
+                                              Callable<T> call, Consumer<T> onSuccess,
+                                              Consumer<Exception> onError) {
+        BackgroundTask<T> task = new BackgroundTask<>(call, onSuccess, onError, busyComponent, progressIndicator);
+        if (acquire(busyComponent)) {
+            busyComponent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        }
+        if (acquire(progressIndicator)) {
+            progressIndicator.setVisible(true);
+        }
+        task.execute();
+        return task;
+    }
+
+    /**
+     * Cancels a task if it is still running
+     * @param task The task to cancel, may be null
+     */
+    public static void cancel(BackgroundTask<?> task) {
+        if (task != null && !task.isDone()) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Registers a running task on a component
+     * @return true if this is the first running task, so the busy state should be shown
+     */
+    private static boolean acquire(Component component) {
+        return component != null && ACTIVE_TASKS.merge(component, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * Unregisters a finished task from a component
+     * @return true if no task is left running, so the busy state should be cleared
+     */
+    private static boolean release(Component component) {
+        if (component == null || ACTIVE_TASKS.merge(component, -1, Integer::sum) > 0) {
+            return false;
+        }
+        ACTIVE_TASKS.remove(component);
+        return true;
+    }
+
+    @Override
+    protected T doInBackground() throws Exception {
+        return call.call();
+    }
+
+    @Override
+    protected void done() {
+        if (release(busyComponent)) {
+            busyComponent.setCursor(Cursor.getDefaultCursor());
+        }
+        if (release(progressIndicator)) {
+            progressIndicator.setVisible(false);
+        }
+        if (isCancelled()) {
+            return;
+        }
+
+        T result;
+        try {
+            result = get();
+        } catch (CancellationException | InterruptedException e) {
+            return;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            onError.accept(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+            return;
+        }
+        onSuccess.accept(result);
+    }
+}
@@ -5,7 +5,9 @@ import com.ticketsystem.model.*;
 import javax.swing.table.AbstractTableModel;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TicketTableModel extends AbstractTableModel {
     private final String[] columnNames = {
@@ -14,15 +16,54 @@ public class TicketTableModel extends AbstractTableModel {
 
     private List<TicketDTO> tickets;
 
+    // Row of each ticket ID, so merged changes find their row without scanning
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+
     public TicketTableModel() {
         this.tickets = new ArrayList<>();
     }
 
     public void setTickets(List<TicketDTO> tickets) {
-        this.tickets = tickets == null ? new ArrayList<>() : tickets;
+        this.tickets = tickets == null ? new ArrayList<>() : new ArrayList<>(tickets);
+        rowsById.clear();
+        for (int row = 0; row < this.tickets.size(); row++) {
+            rowsById.put(this.tickets.get(row).getId(), row);
+        }
         fireTableDataChanged();
     }
 
+    /**
+     * Applies changed tickets in place
+     * Known tickets replace their row unless the row is already newer, new tickets are appended;
+     * only the affected rows are repainted
+     * @param changes Tickets that changed since the last refresh
+     */
+    public void mergeTickets(List<TicketDTO> changes) {
+        if (changes == null) {
+            return;
+        }
+        for (TicketDTO ticket : changes) {
+            Integer row = rowsById.get(ticket.getId());
+            if (row != null) {
+                if (isOlder(ticket, tickets.get(row))) {
+                    continue;
+                }
+                tickets.set(row, ticket);
+                fireTableRowsUpdated(row, row);
+            } else {
+                row = tickets.size();
+                tickets.add(ticket);
+                rowsById.put(ticket.getId(), row);
+                fireTableRowsInserted(row, row);
+            }
+        }
+    }
+
+    private static boolean isOlder(TicketDTO candidate, TicketDTO current) {
+        return candidate.getLastUpdated() != null && current.getLastUpdated() != null
+                && candidate.getLastUpdated().isBefore(current.getLastUpdated());
+    }
+
     public TicketDTO getTicketAt(int row) {
         return tickets.get(row);
     }